@@ -0,0 +1,154 @@
+package backend.academy;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import java.nio.file.Path;
+
+final class Arguments {
+    private static final int DEFAULT_BOT_GAMES = 100;
+
+    @Parameter(names = "--dictionary", description = "Play with the binary dictionary stored in this file.")
+    private Path dictionary;
+
+    @Parameter(
+        names = "--shards",
+        description = "Play with the sharded dictionary stored in this directory, categories are read on demand."
+    )
+    private Path shards;
+
+    @Parameter(
+        names = "--write-shards",
+        description = "Write the built-in dictionary to this directory as a sharded dictionary and exit."
+    )
+    private Path writeShards;
+
+    @Parameter(
+        names = "--words",
+        description = "Play with words loaded from a text, CSV or JSON file, the file name is the default category."
+    )
+    private Path words;
+
+    @Parameter(
+        names = "--write-dictionary",
+        description = "Write the built-in dictionary to this file in the binary format and exit."
+    )
+    private Path writeDictionary;
+
+    @Parameter(
+        names = "--no-repeat",
+        description = "Hand out every word of a category once before any word is repeated."
+    )
+    private boolean isNoRepeat;
+
+    @Parameter(names = "--port", description = "Serve games over TCP on this port instead of the console.")
+    private Integer port;
+
+    @Parameter(names = "--http-port", description = "Serve games as a JSON API over HTTP on this port.")
+    private Integer httpPort;
+
+    @Parameter(
+        names = "--journal",
+        description = "Record games served over HTTP to this directory and serve games in flight again on restart."
+    )
+    private Path journal;
+
+    @Parameter(
+        names = "--batch",
+        description = "Play scripted games from this file, or from the standard input if it is -, and exit."
+    )
+    private Path batch;
+
+    @Parameter(names = "--bots", description = "Run this many simulated players instead of a game and print a report.")
+    private Integer bots;
+
+    @Parameter(names = "--bot-games", description = "Number of games every simulated player plays.")
+    private int botGames = DEFAULT_BOT_GAMES;
+
+    @Parameter(
+        names = "--bot-threads",
+        description = "Run simulated players on a pool of this many threads instead of virtual threads."
+    )
+    private Integer botThreads;
+
+    @Parameter(
+        names = "--bot-solver",
+        description = "Simulated players guess with the solver instead of the most frequent letters."
+    )
+    private boolean isBotSolver;
+
+    @Parameter(names = "--seed", description = "Seed of the words drawn by simulated players.")
+    private Long seed;
+
+    private Arguments() {
+
+    }
+
+    static Arguments parse(String[] args) {
+        Arguments arguments = new Arguments();
+        JCommander.newBuilder()
+            .addObject(arguments)
+            .build()
+            .parse(args);
+        return arguments;
+    }
+
+    Path dictionary() {
+        return dictionary;
+    }
+
+    Path shards() {
+        return shards;
+    }
+
+    Path writeShards() {
+        return writeShards;
+    }
+
+    Path words() {
+        return words;
+    }
+
+    Path writeDictionary() {
+        return writeDictionary;
+    }
+
+    boolean isNoRepeat() {
+        return isNoRepeat;
+    }
+
+    Integer port() {
+        return port;
+    }
+
+    Integer httpPort() {
+        return httpPort;
+    }
+
+    Path journal() {
+        return journal;
+    }
+
+    Path batch() {
+        return batch;
+    }
+
+    Integer bots() {
+        return bots;
+    }
+
+    int botGames() {
+        return botGames;
+    }
+
+    Integer botThreads() {
+        return botThreads;
+    }
+
+    boolean isBotSolver() {
+        return isBotSolver;
+    }
+
+    Long seed() {
+        return seed;
+    }
+}
@@ -1,12 +1,160 @@
 package backend.academy;
 
 import backend.academy.game.Hangman;
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.bot.LoadReport;
+import backend.academy.game.bot.impl.EntropyGuessStrategy;
+import backend.academy.game.bot.impl.FrequencyGuessStrategy;
+import backend.academy.game.bot.impl.LoadGenerator;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.impl.DictionaryLoader;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.MappedDictionary;
+import backend.academy.game.dictionary.impl.MappedDictionaryWriter;
+import backend.academy.game.dictionary.impl.PatternIndex;
+import backend.academy.game.dictionary.impl.ShardedDictionary;
+import backend.academy.game.dictionary.impl.ShardedDictionaryWriter;
+import backend.academy.game.dictionary.impl.ShuffleBagDictionary;
+import backend.academy.game.manager.SessionManager;
+import backend.academy.game.manager.impl.HttpGameServer;
+import backend.academy.game.manager.impl.VirtualThreadSessionManager;
+import backend.academy.game.session.impl.GuessJournal;
+import backend.academy.game.session.impl.SessionStateCache;
+import backend.academy.game.user.impl.BatchUserInteraction;
 import backend.academy.game.user.impl.CommandLineUserInteraction;
+import backend.academy.game.user.impl.NioUserInteractionServer;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class Main {
-    public static void main(String[] args) {
-        Hangman.create(CommandLineUserInteraction.getInstance());
+    private static final String STANDARD_INPUT = "-";
+    private static final String HTTP_NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        Arguments arguments = Arguments.parse(args);
+
+        if (arguments.writeDictionary() != null) {
+            MappedDictionaryWriter.write(LevelBasedDictionary.getInstance(), arguments.writeDictionary());
+        } else if (arguments.writeShards() != null) {
+            ShardedDictionaryWriter.write(LevelBasedDictionary.getInstance(), arguments.writeShards());
+        } else if (arguments.dictionary() != null) {
+            try (MappedDictionary dictionary = MappedDictionary.getInstance(arguments.dictionary())) {
+                play(arguments, dictionary);
+            }
+        } else if (arguments.shards() != null) {
+            play(arguments, ShardedDictionary.getInstance(arguments.shards()));
+        } else if (arguments.words() != null) {
+            play(arguments, DictionaryLoader.load(arguments.words()));
+        } else {
+            play(arguments, LevelBasedDictionary.getInstance());
+        }
+    }
+
+    private static void play(Arguments arguments, Dictionary words)
+        throws IOException, InterruptedException, ExecutionException {
+        Dictionary dictionary = arguments.isNoRepeat() ? ShuffleBagDictionary.getInstance(words) : words;
+        if (arguments.bots() != null) {
+            runBots(arguments, dictionary);
+            return;
+        }
+
+        if (arguments.batch() != null) {
+            playBatch(arguments.batch(), dictionary);
+            return;
+        }
+
+        if (arguments.httpPort() != null) {
+            serveHttp(arguments, dictionary);
+            return;
+        }
+
+        if (arguments.port() == null) {
+            Hangman.create(CommandLineUserInteraction.getInstance(), dictionary);
+            return;
+        }
+
+        InetSocketAddress address = new InetSocketAddress(arguments.port());
+        try (NioUserInteractionServer server = NioUserInteractionServer.start(dictionary, address)) {
+            server.awaitClose();
+        }
+    }
+
+    /**
+     * With a journal, games in flight before a restart are served again under their ids.
+     */
+    private static void serveHttp(Arguments arguments, Dictionary dictionary) throws IOException, InterruptedException {
+        if (arguments.journal() == null) {
+            try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary)) {
+                serveHttp(arguments.httpPort(), dictionary, sessionManager);
+            }
+            return;
+        }
+
+        try (GuessJournal journal = GuessJournal.open(arguments.journal(), dictionary);
+             VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+                 dictionary, SessionStateCache.disabled(), journal
+             )) {
+            serveHttp(arguments.httpPort(), dictionary, sessionManager);
+        }
+    }
+
+    /**
+     * Responses are sent without Nagle's delay unless {@code sun.net.httpserver.nodelay} is set on the command line.
+     */
+    private static void serveHttp(int port, Dictionary dictionary, SessionManager sessionManager)
+        throws IOException, InterruptedException {
+        if (System.getProperty(HTTP_NO_DELAY_PROPERTY) == null) {
+            System.setProperty(HTTP_NO_DELAY_PROPERTY, Boolean.TRUE.toString());
+        }
+        try (HttpGameServer server = HttpGameServer.start(dictionary, sessionManager, new InetSocketAddress(port))) {
+            server.awaitClose();
+        }
+    }
+
+    /**
+     * Output goes to the standard output descriptor directly, bypassing the locking and flushing of System.out.
+     */
+    private static void playBatch(Path batch, Dictionary dictionary) throws IOException {
+        try (BufferedReader reader = STANDARD_INPUT.equals(batch.toString())
+            ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+            : Files.newBufferedReader(batch, StandardCharsets.UTF_8)) {
+            BatchUserInteraction batchUserInteraction = BatchUserInteraction.getInstance(
+                reader, Channels.newChannel(new FileOutputStream(FileDescriptor.out))
+            );
+            while (batchUserInteraction.nextGame()) {
+                Hangman.create(batchUserInteraction, dictionary);
+            }
+        }
+    }
+
+    private static void runBots(Arguments arguments, Dictionary dictionary)
+        throws InterruptedException, ExecutionException {
+        GuessStrategy guessStrategy = arguments.isBotSolver()
+            ? EntropyGuessStrategy.getInstance(PatternIndex.getInstance(dictionary))
+            : FrequencyGuessStrategy.getInstance(dictionary);
+        LoadGenerator loadGenerator = LoadGenerator.getInstance(dictionary, guessStrategy);
+        long seed = arguments.seed() != null ? arguments.seed() : new SecureRandom().nextLong();
+        try (ExecutorService executor = arguments.botThreads() != null
+            ? Executors.newFixedThreadPool(arguments.botThreads())
+            : Executors.newVirtualThreadPerTaskExecutor()) {
+            LoadReport loadReport = loadGenerator.run(arguments.bots(), arguments.botGames(), seed, executor);
+            PrintStream out = System.out;
+            out.printf("Seed: %d.%n%s", seed, loadReport.describe());
+        }
     }
 }
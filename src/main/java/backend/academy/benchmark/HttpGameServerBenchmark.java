@@ -0,0 +1,119 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.manager.impl.HttpGameServer;
+import backend.academy.game.manager.impl.VirtualThreadSessionManager;
+import backend.academy.game.random.RandomGenerators;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test of {@link HttpGameServer} over loopback: every benchmark thread is a client that keeps guessing
+ * one letter per request, creating a new game when the current one is finished and deleting the old one.
+ * Throughput gives requests per second, sample time gives latency percentiles (p0.99 among them).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class HttpGameServerBenchmark {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String NEW_GAME = "{\"level\": \"hard\", \"category\": \"politics\"}";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        private VirtualThreadSessionManager sessionManager;
+        private HttpGameServer server;
+        private URI games;
+
+        @Setup
+        public void setUp() throws IOException {
+            Dictionary dictionary = LevelBasedDictionary.getInstance(RandomGenerators.threadLocal());
+            sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+            server = HttpGameServer.start(
+                dictionary, sessionManager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+            );
+            InetSocketAddress address = server.getLocalAddress();
+            games = URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/games");
+        }
+
+        @TearDown
+        public void tearDown() {
+            server.close();
+            sessionManager.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        private URI game;
+        private int nextLetter;
+
+        @TearDown
+        public void tearDown() {
+            httpClient.close();
+        }
+
+        private JsonNode guess(Server server) throws IOException, InterruptedException {
+            if (nextLetter == 0) {
+                JsonNode created = send(HttpRequest.newBuilder(server.games).POST(body(NEW_GAME)));
+                game = URI.create(server.games + "/" + created.get("id").asLong());
+            }
+
+            String symbol = "{\"symbol\": \"" + ALPHABET.charAt(nextLetter) + "\"}";
+            JsonNode sessionState = send(HttpRequest.newBuilder(URI.create(game + "/guesses")).POST(body(symbol)));
+
+            nextLetter++;
+            if (sessionState.get("finished").asBoolean() || nextLetter == ALPHABET.length()) {
+                httpClient.send(HttpRequest.newBuilder(game).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+                nextLetter = 0;
+            }
+            return sessionState;
+        }
+
+        private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+            byte[] body = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray()).body();
+            return OBJECT_MAPPER.readTree(body);
+        }
+
+        private static HttpRequest.BodyPublisher body(String json) {
+            return HttpRequest.BodyPublishers.ofString(json);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public JsonNode guessOneClient(Server server, Client client) throws IOException, InterruptedException {
+        return client.guess(server);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public JsonNode guessMaxClients(Server server, Client client) throws IOException, InterruptedException {
+        return client.guess(server);
+    }
+}
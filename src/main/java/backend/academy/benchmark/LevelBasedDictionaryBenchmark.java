@@ -0,0 +1,53 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Random draws from the built-in dictionary.
+ * Run with {@code -prof gc} to get bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LevelBasedDictionaryBenchmark {
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public Level level;
+
+    private LevelBasedDictionary dictionary;
+    private String category;
+
+    @Setup
+    public void setUp() {
+        dictionary = LevelBasedDictionary.getInstance();
+        category = new TreeSet<>(dictionary.getCategoriesByLevel(level)).first();
+    }
+
+    @Benchmark
+    public Optional<DictionaryWord> getDictionaryWord() {
+        return dictionary.getDictionaryWord(level, category);
+    }
+
+    @Benchmark
+    public Optional<String> getCategoryByLevel() {
+        return dictionary.getCategoryByLevel(level);
+    }
+}
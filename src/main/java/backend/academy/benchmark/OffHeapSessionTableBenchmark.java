@@ -0,0 +1,75 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.session.UpdateInfo;
+import backend.academy.game.session.impl.OffHeapSessionTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A whole game against a table that already holds the given number of live games.
+ * Run with {@code -prof gc} to see that neither allocation nor GC time depends on the number of games.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@State(Scope.Thread)
+public class OffHeapSessionTableBenchmark {
+    private static final String[] ALPHABET = "ETAOINSHRDLCUMWFGYPBVKJXQZ".split("");
+
+    @Param({"1000", "1000000", "10000000"})
+    public int liveGames;
+
+    private OffHeapSessionTable table;
+    private int numberOfWords;
+    private int nextWord;
+
+    @Setup
+    public void setUp() {
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        numberOfWords = dictionary.getLevels().stream()
+            .flatMap(level -> dictionary.getCategoriesByLevel(level).stream()
+                .map(category -> dictionary.getDictionaryWords(level, category).size()))
+            .mapToInt(Integer::intValue)
+            .sum();
+
+        table = OffHeapSessionTable.getInstance(dictionary, liveGames + 1);
+        for (int i = 0; i < liveGames; i++) {
+            table.create(i % numberOfWords);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        table.close();
+    }
+
+    @Benchmark
+    public int playWholeGame() {
+        int slot = table.create(nextWord).orElseThrow();
+        nextWord = (nextWord + 1) % numberOfWords;
+
+        int guessed = 0;
+        for (int i = 0; i < ALPHABET.length && !table.isFinished(slot); i++) {
+            if (table.guess(slot, ALPHABET[i]) == UpdateInfo.GUESSED) {
+                guessed++;
+            }
+        }
+
+        table.release(slot);
+        return guessed;
+    }
+}
@@ -0,0 +1,91 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.dictionary.impl.PatternIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pattern queries over generated words of lengths from 4 to 11, an eighth of them have length 8.
+ * The scan is the same query checked word by word, which is what the index replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PatternIndexBenchmark {
+    private static final String PATTERN = "_A__E___";
+    private static final String EXCLUDED_SYMBOLS = "RST";
+    private static final int MIN_LENGTH = 4;
+    private static final int NUMBER_OF_LENGTHS = 8;
+
+    @Param({"100000", "2000000"})
+    public int numberOfWords;
+
+    private List<DictionaryWord> words;
+    private PatternIndex index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        words = new ArrayList<>(numberOfWords);
+        for (int i = 0; i < numberOfWords; i++) {
+            char[] word = new char[MIN_LENGTH + random.nextInt(NUMBER_OF_LENGTHS)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('A' + random.nextInt('Z' - 'A' + 1));
+            }
+            words.add(new LevelBasedDictionaryWord(String.valueOf(word), ""));
+        }
+        index = PatternIndex.getInstance(words);
+    }
+
+    @Benchmark
+    public BitSet match() {
+        return index.match(PATTERN, EXCLUDED_SYMBOLS);
+    }
+
+    @Benchmark
+    public int scan() {
+        int count = 0;
+        for (DictionaryWord dictionaryWord : words) {
+            if (matches(dictionaryWord.word())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean matches(String word) {
+        if (word.length() != PATTERN.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char symbol = word.charAt(i);
+            char expected = PATTERN.charAt(i);
+            boolean isMatched = expected == PatternIndex.HIDDEN_SYMBOL
+                ? PATTERN.indexOf(symbol) < 0 && EXCLUDED_SYMBOLS.indexOf(symbol) < 0
+                : symbol == expected;
+            if (!isMatched) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.random.RandomGenerators;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Word draws from one dictionary shared by all benchmark threads, for every random source.
+ * The three benchmarks differ only in the number of threads, which shows how each source scales.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomGeneratorBenchmark {
+    private static final long SEED = 42;
+    private static final String CATEGORY = "politics";
+
+    @Param({"secure", "threadLocal", "seeded"})
+    public String mode;
+
+    private LevelBasedDictionary dictionary;
+
+    @Setup
+    public void setUp() {
+        RandomGenerator randomGenerator = switch (mode) {
+            case "secure" -> RandomGenerators.secure();
+            case "threadLocal" -> RandomGenerators.threadLocal();
+            case "seeded" -> RandomGenerators.seeded(SEED);
+            default -> throw new IllegalArgumentException(mode);
+        };
+        dictionary = LevelBasedDictionary.getInstance(randomGenerator);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<DictionaryWord> drawOneThread() {
+        return draw();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<DictionaryWord> drawFourThreads() {
+        return draw();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<DictionaryWord> drawMaxThreads() {
+        return draw();
+    }
+
+    private Optional<DictionaryWord> draw() {
+        return dictionary.getDictionaryWord(Level.HARD, CATEGORY);
+    }
+}
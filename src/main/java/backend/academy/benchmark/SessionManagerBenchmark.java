@@ -0,0 +1,103 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.manager.impl.VirtualThreadSessionManager;
+import backend.academy.game.random.RandomGenerators;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.impl.SessionStateCache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test of {@link VirtualThreadSessionManager}: every benchmark thread is a player that keeps guessing,
+ * starting a new game when the current one is finished.
+ * Throughput gives guesses per second, sample time gives latency percentiles (p0.99 among them).
+ * The three benchmarks differ only in the number of players, which shows how the manager scales across cores.
+ * Games run with and without a shared cache of rendered states.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionManagerBenchmark {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String CATEGORY = "politics";
+
+    @State(Scope.Benchmark)
+    public static class Manager {
+        /**
+         * Size of the shared cache of rendered states, zero disables it.
+         */
+        @Param({"0", "10000"})
+        public long renderCacheSize;
+
+        private VirtualThreadSessionManager sessionManager;
+
+        @Setup
+        public void setUp() {
+            sessionManager = VirtualThreadSessionManager.getInstance(
+                LevelBasedDictionary.getInstance(RandomGenerators.threadLocal()),
+                renderCacheSize == 0 ? SessionStateCache.disabled() : SessionStateCache.getInstance(renderCacheSize)
+            );
+        }
+
+        @TearDown
+        public void tearDown() {
+            sessionManager.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+        private long sessionId;
+        private int nextLetter;
+
+        private SessionState guess(VirtualThreadSessionManager sessionManager) {
+            if (nextLetter == 0) {
+                sessionId = sessionManager.create(Level.HARD, CATEGORY).orElseThrow();
+            }
+
+            String symbol = String.valueOf(ALPHABET.charAt(nextLetter));
+            SessionState sessionState = sessionManager.guess(sessionId, symbol).orElseThrow();
+
+            nextLetter++;
+            if (sessionState.isFinished() || nextLetter == ALPHABET.length()) {
+                sessionManager.close(sessionId);
+                nextLetter = 0;
+            }
+            return sessionState;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SessionState guessOnePlayer(Manager manager, Player player) {
+        return player.guess(manager.sessionManager);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public SessionState guessFourPlayers(Manager manager, Player player) {
+        return player.guess(manager.sessionManager);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public SessionState guessMaxPlayers(Manager manager, Player player) {
+        return player.guess(manager.sessionManager);
+    }
+}
@@ -0,0 +1,132 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.session.NormalizedWord;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.impl.SimpleWordSession;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot paths of a single game: one guess of every kind, a whole game guess by guess and in one batch,
+ * state rendering and session creation.
+ * Run with {@code -prof gc} to get bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleWordSessionBenchmark {
+    private static final String WORD = "conservative";
+    private static final String CLUE = "Tradition, limited government, free markets.";
+
+    private static final String HIT = "e";
+    private static final String MISS = "z";
+    private static final String INVALID_INPUT = "biba";
+    private static final List<String> WHOLE_GAME = List.of("e", "a", "z", "o", "n", "s", "r", "v", "c", "t", "i");
+
+    @State(Scope.Thread)
+    public static class Word {
+        private final DictionaryWord dictionaryWord = new LevelBasedDictionaryWord(WORD, CLUE);
+        private final DictionaryWord normalizedWord = NormalizedWord.normalize(dictionaryWord);
+    }
+
+    /**
+     * A brand-new session for every call, so that a hit or a miss really changes the state.
+     */
+    @State(Scope.Thread)
+    public static class FreshSession {
+        private final DictionaryWord dictionaryWord = new LevelBasedDictionaryWord(WORD, CLUE);
+        private SimpleWordSession session;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            session = SimpleWordSession.getInstance(dictionaryWord);
+        }
+    }
+
+    /**
+     * A session in the middle of a game: {@link #HIT} is already guessed and {@link #MISS} is already missed.
+     */
+    @State(Scope.Thread)
+    public static class PlayedSession {
+        private SimpleWordSession session;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            session = SimpleWordSession.getInstance(new LevelBasedDictionaryWord(WORD, CLUE));
+            session.updateState(HIT);
+            session.updateState(MISS);
+        }
+    }
+
+    @Benchmark
+    public SessionState updateStateHit(FreshSession freshSession) {
+        return freshSession.session.updateState(HIT);
+    }
+
+    @Benchmark
+    public SessionState updateStateMiss(FreshSession freshSession) {
+        return freshSession.session.updateState(MISS);
+    }
+
+    @Benchmark
+    public SessionState updateStateRepeatHit(PlayedSession playedSession) {
+        return playedSession.session.updateState(HIT);
+    }
+
+    @Benchmark
+    public SessionState updateStateRepeatMiss(PlayedSession playedSession) {
+        return playedSession.session.updateState(MISS);
+    }
+
+    @Benchmark
+    public SessionState updateStateInvalidInput(PlayedSession playedSession) {
+        return playedSession.session.updateState(INVALID_INPUT);
+    }
+
+    @Benchmark
+    public SessionState updateStateWholeGame(FreshSession freshSession) {
+        SessionState sessionState = null;
+        for (String symbol : WHOLE_GAME) {
+            sessionState = freshSession.session.updateState(symbol);
+        }
+        return sessionState;
+    }
+
+    @Benchmark
+    public SessionState updateStatesWholeGame(FreshSession freshSession) {
+        return freshSession.session.updateStates(WHOLE_GAME);
+    }
+
+    @Benchmark
+    public SessionState getSessionState(PlayedSession playedSession) {
+        return playedSession.session.getSessionState();
+    }
+
+    @Benchmark
+    public SimpleWordSession getInstance(Word word) {
+        return SimpleWordSession.getInstance(word.dictionaryWord);
+    }
+
+    /**
+     * Session of a word as dictionaries hand it out, nothing is validated or upper-cased.
+     */
+    @Benchmark
+    public SimpleWordSession getInstanceNormalized(Word word) {
+        return SimpleWordSession.getInstance(word.normalizedWord);
+    }
+}
@@ -0,0 +1,62 @@
+package backend.academy.benchmark;
+
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.session.impl.SimpleWordSession;
+import backend.academy.game.session.impl.SimpleWordSessionCodec;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Snapshot and restore of a session in the middle of a game, with the word written as a reference.
+ * Run with {@code -prof gc} to get bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleWordSessionCodecBenchmark {
+    private static final int BUFFER_SIZE = 256;
+
+    private SimpleWordSessionCodec codec;
+    private SimpleWordSession session;
+    private ByteBuffer buffer;
+    private ByteBuffer snapshot;
+
+    @Setup
+    public void setUp() {
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        codec = SimpleWordSessionCodec.getInstance(dictionary);
+        session = SimpleWordSession.getInstance(dictionary.getDefaultDictionaryWord());
+        session.updateStates(List.of("a", "e", "q", "z"));
+
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        snapshot = ByteBuffer.allocate(BUFFER_SIZE);
+        codec.encode(session, snapshot);
+        snapshot.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        codec.encode(session, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public SimpleWordSession decode() {
+        return codec.decode(snapshot.duplicate());
+    }
+}
@@ -0,0 +1,87 @@
+package backend.academy.game;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Dictionary that remembers the level and category of the last drawn word.
+ */
+final class DrawRecordingDictionary implements Dictionary {
+    private final Dictionary dictionary;
+    private Level level;
+    private String category;
+
+    private DrawRecordingDictionary(Dictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    static DrawRecordingDictionary getInstance(Dictionary dictionary) {
+        return new DrawRecordingDictionary(dictionary);
+    }
+
+    Level level() {
+        return level;
+    }
+
+    String category() {
+        return category;
+    }
+
+    @Override
+    public Set<Level> getLevels() {
+        return dictionary.getLevels();
+    }
+
+    @Override
+    public Level getDefaultLevel() {
+        return dictionary.getDefaultLevel();
+    }
+
+    @Override
+    public Set<String> getCategoriesByLevel(Level level) {
+        return dictionary.getCategoriesByLevel(level);
+    }
+
+    @Override
+    public Optional<String> getCategoryByLevel(Level level) {
+        return dictionary.getCategoryByLevel(level);
+    }
+
+    @Override
+    public String getDefaultCategory() {
+        return dictionary.getDefaultCategory();
+    }
+
+    @Override
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        Optional<DictionaryWord> dictionaryWord = dictionary.getDictionaryWord(level, category);
+        if (dictionaryWord.isPresent()) {
+            this.level = level;
+            this.category = category;
+        }
+        return dictionaryWord;
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        return dictionary.getDictionaryWords(level, category);
+    }
+
+    /**
+     * The default level and category are drawn once, so the recorded ones are those the word is drawn from.
+     */
+    @Override
+    public DictionaryWord getDefaultDictionaryWord() {
+        Level defaultLevel = getDefaultLevel();
+        String defaultCategory = getDefaultCategory();
+        return getDictionaryWord(defaultLevel, defaultCategory).orElseThrow();
+    }
+
+    @Override
+    public Dictionary unwrap() {
+        return dictionary.unwrap();
+    }
+}
@@ -3,6 +3,7 @@ package backend.academy.game;
 import backend.academy.game.dictionary.Dictionary;
 import backend.academy.game.dictionary.DictionaryWord;
 import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.events.SessionStartedEvent;
 import backend.academy.game.session.Session;
 import backend.academy.game.session.impl.SimpleWordSession;
 import backend.academy.game.user.UserInteraction;
@@ -17,14 +18,27 @@ public final class Hangman {
     }
 
     public static void create(UserInteraction userInteraction) {
-        Hangman hangman = Hangman.getInstance(userInteraction);
-        hangman.run();
+        create(userInteraction, LevelBasedDictionary.getInstance());
     }
 
-    private static Hangman getInstance(UserInteraction userInteraction) {
-        Dictionary dictionary = LevelBasedDictionary.getInstance();
+    public static void create(UserInteraction userInteraction, Dictionary dictionary) {
+        Hangman hangman = Hangman.getInstance(userInteraction, dictionary);
+        hangman.run();
+    }
 
-        DictionaryWord dictionaryWord = userInteraction.getDictionaryWord(dictionary);
+    /**
+     * The dictionary is only wrapped to learn the level and category of the word while the event is enabled.
+     */
+    private static Hangman getInstance(UserInteraction userInteraction, Dictionary dictionary) {
+        SessionStartedEvent event = new SessionStartedEvent();
+        DictionaryWord dictionaryWord;
+        if (event.isEnabled()) {
+            DrawRecordingDictionary drawRecordingDictionary = DrawRecordingDictionary.getInstance(dictionary);
+            dictionaryWord = userInteraction.getDictionaryWord(drawRecordingDictionary);
+            event.report(drawRecordingDictionary.level(), drawRecordingDictionary.category());
+        } else {
+            dictionaryWord = userInteraction.getDictionaryWord(dictionary);
+        }
         Session session = SimpleWordSession.getInstance(dictionaryWord);
 
         return new Hangman(userInteraction, session);
@@ -0,0 +1,25 @@
+package backend.academy.game.bot;
+
+import java.util.Optional;
+
+/**
+ * Chooses the next guess of a player from what the player sees.
+ */
+public interface GuessStrategy {
+    char HIDDEN_SYMBOL = '_';
+
+    /**
+     * @param pattern       upper-case word with {@link #HIDDEN_SYMBOL} in place of letters that are not guessed
+     * @param missedSymbols upper-case missed symbols in any order
+     * @return a symbol that has not been tried yet, or nothing if the strategy has run out of symbols
+     */
+    Optional<String> nextGuess(String pattern, String missedSymbols);
+
+    /**
+     * Returns the strategy for one game, guesses of the game go to it in order.
+     * A strategy that keeps state between guesses returns a new instance, a stateless one returns itself.
+     */
+    default GuessStrategy newGame() {
+        return this;
+    }
+}
@@ -0,0 +1,66 @@
+package backend.academy.game.bot;
+
+import backend.academy.game.metrics.GameMetricsSnapshot;
+import backend.academy.game.metrics.HistogramSnapshot;
+import java.time.Duration;
+
+/**
+ * Result of a load run: throughput over the whole run and metrics of all played games.
+ */
+public record LoadReport(int players, Duration elapsed, GameMetricsSnapshot metrics) {
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double NANOS_PER_MICRO = 1e3;
+    private static final double MEDIAN = 0.5;
+    private static final double P90 = 0.9;
+    private static final double P99 = 0.99;
+    private static final double P999 = 0.999;
+
+    public long games() {
+        return metrics.sessionsFinished();
+    }
+
+    public long guesses() {
+        return metrics.guesses().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double gamesPerSecond() {
+        return perSecond(games());
+    }
+
+    public double guessesPerSecond() {
+        return perSecond(guesses());
+    }
+
+    public double winRate() {
+        return games() == 0 ? 0 : (double) metrics.victories() / games();
+    }
+
+    private double perSecond(long count) {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : count * NANOS_PER_SECOND / nanos;
+    }
+
+    /**
+     * Latencies of {@code Session.updateState} are upper bounds of histogram buckets, in microseconds.
+     */
+    public String describe() {
+        HistogramSnapshot latency = metrics.updateStateLatency();
+        return String.format(
+            "Players: %d, games: %d, guesses: %d in %d ms.%n"
+                + "Games/sec: %.1f, guesses/sec: %.1f, win rate: %.3f.%n"
+                + "Update latency, us: mean %.2f, p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f.%n",
+            players,
+            games(),
+            guesses(),
+            elapsed.toMillis(),
+            gamesPerSecond(),
+            guessesPerSecond(),
+            winRate(),
+            latency.meanNanos() / NANOS_PER_MICRO,
+            latency.quantileNanos(MEDIAN) / NANOS_PER_MICRO,
+            latency.quantileNanos(P90) / NANOS_PER_MICRO,
+            latency.quantileNanos(P99) / NANOS_PER_MICRO,
+            latency.quantileNanos(P999) / NANOS_PER_MICRO
+        );
+    }
+}
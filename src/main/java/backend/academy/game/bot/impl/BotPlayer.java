@@ -0,0 +1,66 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.metrics.GameMetrics;
+import backend.academy.game.metrics.impl.MeteredSession;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Simulated player, plays games one after another. It sees the same as a person does:
+ * the pattern of revealed letters and the misses of the session.
+ */
+final class BotPlayer {
+    private final List<List<DictionaryWord>> groups;
+    private final GuessStrategy guessStrategy;
+    private final Function<DictionaryWord, Session> sessionFactory;
+    private final GameMetrics gameMetrics;
+    private final RandomGenerator randomGenerator;
+
+    BotPlayer(
+        List<List<DictionaryWord>> groups,
+        GuessStrategy guessStrategy,
+        Function<DictionaryWord, Session> sessionFactory,
+        GameMetrics gameMetrics,
+        RandomGenerator randomGenerator
+    ) {
+        this.groups = groups;
+        this.guessStrategy = guessStrategy;
+        this.sessionFactory = sessionFactory;
+        this.gameMetrics = gameMetrics;
+        this.randomGenerator = randomGenerator;
+    }
+
+    void play(int numberOfGames) {
+        for (int i = 0; i < numberOfGames; i++) {
+            play(drawWord());
+        }
+    }
+
+    /**
+     * A level and category are drawn first and then a word of them, like a person choosing in the menu.
+     */
+    private DictionaryWord drawWord() {
+        List<DictionaryWord> words = groups.get(randomGenerator.nextInt(groups.size()));
+        return words.get(randomGenerator.nextInt(words.size()));
+    }
+
+    private void play(DictionaryWord dictionaryWord) {
+        GuessStrategy gameStrategy = guessStrategy.newGame();
+        Session session = MeteredSession.getInstance(sessionFactory.apply(dictionaryWord), gameMetrics);
+        SessionState sessionState = session.getSessionState();
+        while (!sessionState.isFinished()) {
+            Optional<String> guess = gameStrategy.nextGuess(session.pattern(), session.missedSymbols());
+            if (guess.isEmpty()) {
+                return;
+            }
+
+            sessionState = session.updateState(guess.get());
+        }
+    }
+}
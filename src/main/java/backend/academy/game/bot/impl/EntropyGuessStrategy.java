@@ -0,0 +1,228 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.dictionary.impl.PatternIndex;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
+
+/**
+ * Solver: guesses the letter that gives the most expected information about the word.
+ * A guess splits candidate words by the positions of the letter in them, a word without the letter is a miss,
+ * and the letter with the highest entropy of the split wins, ties go to the letter in more candidates.
+ * <p>
+ * Candidates are numbers of words in the {@link PatternIndex}. A game of {@link #newGame()} looks them up
+ * once and then only narrows them by the letters revealed or missed since the previous guess.
+ * Large candidate sets are scored on a fork/join pool. If no candidate is left, the word is not in the index
+ * and the solver guesses letters of the index in order.
+ * Patterns and misses are upper-cased and compared letter by letter like in the session.
+ */
+public final class EntropyGuessStrategy implements GuessStrategy {
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    private static final double LN_2 = Math.log(2);
+
+    private final PatternIndex index;
+    private final int[] alphabet;
+    private final ForkJoinPool forkJoinPool;
+
+    private EntropyGuessStrategy(PatternIndex index, ForkJoinPool forkJoinPool) {
+        this.index = index;
+        this.alphabet = index.alphabet().codePoints().toArray();
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public static EntropyGuessStrategy getInstance(PatternIndex index) {
+        return getInstance(index, ForkJoinPool.commonPool());
+    }
+
+    public static EntropyGuessStrategy getInstance(PatternIndex index, ForkJoinPool forkJoinPool) {
+        return new EntropyGuessStrategy(index, forkJoinPool);
+    }
+
+    /**
+     * Looks candidates up from scratch, games of {@link #newGame()} are cheaper for a sequence of guesses.
+     */
+    @Override
+    public Optional<String> nextGuess(String pattern, String missedSymbols) {
+        return newGame().nextGuess(pattern, missedSymbols);
+    }
+
+    @Override
+    public GuessStrategy newGame() {
+        return new Game();
+    }
+
+    private Optional<String> bestGuess(IntArrayList candidates, String pattern, String missedSymbols) {
+        boolean[] isTried = new boolean[alphabet.length];
+        markTried(isTried, pattern);
+        markTried(isTried, missedSymbols);
+
+        Long2IntOpenHashMap[] partitions = new Long2IntOpenHashMap[alphabet.length];
+        if (!candidates.isEmpty()) {
+            int length = pattern.codePointCount(0, pattern.length());
+            ScoreTask task = new ScoreTask(
+                index, length, alphabet, isTried, candidates.elements(), 0, candidates.size()
+            );
+            partitions = candidates.size() < PARALLEL_THRESHOLD ? task.compute() : forkJoinPool.invoke(task);
+        }
+
+        int bestLetter = -1;
+        double bestEntropy = -1;
+        int bestHits = 0;
+        for (int letter = 0; letter < alphabet.length; letter++) {
+            if (partitions[letter] != null) {
+                int hits = hits(partitions[letter]);
+                double entropy = entropy(partitions[letter], hits, candidates.size());
+                if (entropy > bestEntropy || entropy == bestEntropy && hits > bestHits) {
+                    bestLetter = letter;
+                    bestEntropy = entropy;
+                    bestHits = hits;
+                }
+            }
+        }
+
+        if (bestLetter < 0) {
+            return firstUntried(isTried);
+        }
+        return Optional.of(Character.toString(alphabet[bestLetter]));
+    }
+
+    private void markTried(boolean[] isTried, String symbols) {
+        symbols.codePoints().forEach(symbol -> {
+            int letter = Arrays.binarySearch(alphabet, symbol);
+            if (letter >= 0) {
+                isTried[letter] = true;
+            }
+        });
+    }
+
+    private Optional<String> firstUntried(boolean[] isTried) {
+        for (int letter = 0; letter < alphabet.length; letter++) {
+            if (!isTried[letter]) {
+                return Optional.of(Character.toString(alphabet[letter]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int hits(Long2IntOpenHashMap partition) {
+        int hits = 0;
+        for (Long2IntMap.Entry entry : partition.long2IntEntrySet()) {
+            hits += entry.getIntValue();
+        }
+        return hits;
+    }
+
+    /**
+     * Entropy in bits of splitting the candidates by positions of a letter, the rest of the candidates are a miss.
+     */
+    private static double entropy(Long2IntOpenHashMap partition, int hits, int numberOfCandidates) {
+        double sum = 0;
+        for (Long2IntMap.Entry entry : partition.long2IntEntrySet()) {
+            sum += entry.getIntValue() * log2(entry.getIntValue());
+        }
+        int misses = numberOfCandidates - hits;
+        if (misses > 0) {
+            sum += misses * log2(misses);
+        }
+        return log2(numberOfCandidates) - sum / numberOfCandidates;
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / LN_2;
+    }
+
+    /**
+     * Candidates of one game, guesses must come in the order of the game.
+     */
+    private final class Game implements GuessStrategy {
+        private IntArrayList candidates;
+        private int[] pattern;
+        private int[] missedSymbols;
+
+        @Override
+        public Optional<String> nextGuess(String pattern, String missedSymbols) {
+            String upperCasePattern = toUpperCase(pattern);
+            String upperCaseMissedSymbols = toUpperCase(missedSymbols);
+            int[] newPattern = upperCasePattern.codePoints().toArray();
+            int[] newMissedSymbols = upperCaseMissedSymbols.codePoints().toArray();
+            if (candidates == null || newPattern.length != this.pattern.length) {
+                candidates = lookUp(upperCasePattern, upperCaseMissedSymbols);
+            } else {
+                narrow(newPattern, newMissedSymbols);
+            }
+            this.pattern = newPattern;
+            this.missedSymbols = newMissedSymbols;
+
+            return bestGuess(candidates, upperCasePattern, upperCaseMissedSymbols);
+        }
+
+        private IntArrayList lookUp(String pattern, String missedSymbols) {
+            BitSet matches = index.match(pattern, missedSymbols);
+            IntArrayList ids = new IntArrayList(matches.cardinality());
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        /**
+         * Keeps candidates with the newly revealed letters exactly at their positions and without new misses.
+         */
+        private void narrow(int[] newPattern, int[] newMissedSymbols) {
+            IntArrayList revealedLetters = newLetters(newPattern, pattern);
+            IntArrayList missedLetters = newLetters(newMissedSymbols, missedSymbols);
+            if (revealedLetters.isEmpty() && missedLetters.isEmpty()) {
+                return;
+            }
+
+            int[] ids = candidates.elements();
+            int size = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                String word = index.getUpperCaseWord(newPattern.length, ids[i]);
+                if (isConsistent(word, newPattern, revealedLetters, missedLetters)) {
+                    ids[size++] = ids[i];
+                }
+            }
+            candidates.size(size);
+        }
+
+        private static IntArrayList newLetters(int[] symbols, int[] oldSymbols) {
+            IntArrayList oldLetters = IntArrayList.wrap(oldSymbols);
+            IntArrayList letters = new IntArrayList();
+            for (int symbol : symbols) {
+                boolean isNew = symbol != PatternIndex.HIDDEN_SYMBOL && !oldLetters.contains(symbol);
+                if (isNew && !letters.contains(symbol)) {
+                    letters.add(symbol);
+                }
+            }
+            return letters;
+        }
+
+        private static boolean isConsistent(
+            String word,
+            int[] pattern,
+            IntArrayList revealedLetters,
+            IntArrayList missedLetters
+        ) {
+            int offset = 0;
+            for (int patternSymbol : pattern) {
+                int symbol = word.codePointAt(offset);
+                offset += Character.charCount(symbol);
+                boolean isConsistent = revealedLetters.contains(patternSymbol)
+                    ? symbol == patternSymbol
+                    : !revealedLetters.contains(symbol) && !missedLetters.contains(symbol);
+                if (!isConsistent) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
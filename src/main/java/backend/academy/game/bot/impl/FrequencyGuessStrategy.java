@@ -0,0 +1,81 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectWord;
+import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
+
+/**
+ * Guesses letters in descending order of the number of words containing them, ties are broken by the letter.
+ * The order is computed once, so a guess is only a scan over the letters.
+ */
+public final class FrequencyGuessStrategy implements GuessStrategy {
+    private final char[] letters;
+    private final String[] guesses;
+
+    private FrequencyGuessStrategy(char[] letters) {
+        this.letters = letters;
+        this.guesses = new String[letters.length];
+        for (int i = 0; i < letters.length; i++) {
+            guesses[i] = String.valueOf(letters[i]);
+        }
+    }
+
+    public static FrequencyGuessStrategy getInstance(Dictionary dictionary) {
+        List<DictionaryWord> words = new ArrayList<>();
+        for (Level level : dictionary.getLevels()) {
+            for (String category : dictionary.getCategoriesByLevel(level)) {
+                words.addAll(dictionary.getDictionaryWords(level, category));
+            }
+        }
+        return getInstance(words);
+    }
+
+    public static FrequencyGuessStrategy getInstance(Collection<DictionaryWord> words) {
+        Map<Character, Integer> letter2words = new HashMap<>();
+        for (DictionaryWord dictionaryWord : words) {
+            if (isCorrectWord(dictionaryWord)) {
+                dictionaryWord.word().chars()
+                    .map(symbol -> toUpperCase((char) symbol))
+                    .distinct()
+                    .forEach(letter -> letter2words.merge((char) letter, 1, Integer::sum));
+            }
+        }
+
+        List<Character> order = new ArrayList<>(letter2words.keySet());
+        order.sort(Comparator.<Character>comparingInt(letter2words::get).reversed()
+            .thenComparing(Comparator.naturalOrder()));
+
+        char[] letters = new char[order.size()];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = order.get(i);
+        }
+        return new FrequencyGuessStrategy(letters);
+    }
+
+    @Override
+    public Optional<String> nextGuess(String pattern, String missedSymbols) {
+        for (int i = 0; i < letters.length; i++) {
+            if (pattern.indexOf(letters[i]) < 0 && missedSymbols.indexOf(letters[i]) < 0) {
+                return Optional.of(guesses[i]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Letters in the order of guesses.
+     */
+    public String letters() {
+        return String.valueOf(letters);
+    }
+}
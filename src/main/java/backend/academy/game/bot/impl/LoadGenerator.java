@@ -0,0 +1,102 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.bot.LoadReport;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.metrics.impl.LongAdderGameMetrics;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.impl.SimpleWordSession;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectWord;
+
+/**
+ * Load generator: simulated players play whole games through {@link Session#updateState(String)},
+ * the same path as people, and the run is measured with {@link LongAdderGameMetrics}.
+ * Every player draws words from its own split of a generator seeded once,
+ * so the words of a player do not depend on the executor or the other players.
+ */
+public final class LoadGenerator {
+    private final List<List<DictionaryWord>> groups;
+    private final GuessStrategy guessStrategy;
+    private final Function<DictionaryWord, Session> sessionFactory;
+
+    private LoadGenerator(
+        List<List<DictionaryWord>> groups,
+        GuessStrategy guessStrategy,
+        Function<DictionaryWord, Session> sessionFactory
+    ) {
+        this.groups = groups;
+        this.guessStrategy = guessStrategy;
+        this.sessionFactory = sessionFactory;
+    }
+
+    public static LoadGenerator getInstance(Dictionary dictionary, GuessStrategy guessStrategy) {
+        return getInstance(dictionary, guessStrategy, SimpleWordSession::getInstance);
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} if the dictionary has no word that can be played.
+     */
+    public static LoadGenerator getInstance(
+        Dictionary dictionary,
+        GuessStrategy guessStrategy,
+        Function<DictionaryWord, Session> sessionFactory
+    ) {
+        List<List<DictionaryWord>> groups = new ArrayList<>();
+        for (Level level : dictionary.getLevels()) {
+            for (String category : dictionary.getCategoriesByLevel(level)) {
+                List<DictionaryWord> words = dictionary.getDictionaryWords(level, category).stream()
+                    .filter(dictionaryWord -> isCorrectWord(dictionaryWord))
+                    .toList();
+                if (!words.isEmpty()) {
+                    groups.add(words);
+                }
+            }
+        }
+        if (groups.isEmpty()) {
+            throw new IllegalArgumentException("The dictionary has no word that can be played.");
+        }
+
+        return new LoadGenerator(List.copyOf(groups), guessStrategy, sessionFactory);
+    }
+
+    /**
+     * Every player is a task on the executor that plays its games one after another.
+     * The executor is not shut down, so the same pool can serve several runs.
+     */
+    public LoadReport run(int players, int gamesPerPlayer, long seed, ExecutorService executor)
+        throws InterruptedException, ExecutionException {
+        LongAdderGameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        SplittableRandom randomGenerator = new SplittableRandom(seed);
+
+        List<Callable<Void>> tasks = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            BotPlayer player = new BotPlayer(
+                groups, guessStrategy, sessionFactory, gameMetrics, randomGenerator.split()
+            );
+            tasks.add(() -> {
+                player.play(gamesPerPlayer);
+                return null;
+            });
+        }
+
+        long start = System.nanoTime();
+        List<Future<Void>> futures = executor.invokeAll(tasks);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+
+        return new LoadReport(players, elapsed, gameMetrics.snapshot());
+    }
+}
@@ -0,0 +1,94 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.dictionary.impl.PatternIndex;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Splits candidates by the positions of every untried letter: for a letter, the number of candidates
+ * by the bitmask of its positions. Candidates without the letter are not counted.
+ * Halves of a large range are counted in parallel and merged.
+ * Positions of words longer than {@value Long#SIZE} letters wrap around the bitmask, which only merges some splits.
+ */
+final class ScoreTask extends RecursiveTask<Long2IntOpenHashMap[]> {
+    private final transient PatternIndex index;
+    private final int length;
+    private final int[] alphabet;
+    private final boolean[] isTried;
+    private final int[] candidates;
+    private final int from;
+    private final int to;
+
+    ScoreTask(PatternIndex index, int length, int[] alphabet, boolean[] isTried, int[] candidates, int from, int to) {
+        this.index = index;
+        this.length = length;
+        this.alphabet = alphabet;
+        this.isTried = isTried;
+        this.candidates = candidates;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Long2IntOpenHashMap[] compute() {
+        if (to - from <= EntropyGuessStrategy.PARALLEL_THRESHOLD) {
+            return count();
+        }
+
+        int middle = (from + to) >>> 1;
+        ScoreTask left = new ScoreTask(index, length, alphabet, isTried, candidates, from, middle);
+        left.fork();
+        ScoreTask right = new ScoreTask(index, length, alphabet, isTried, candidates, middle, to);
+        Long2IntOpenHashMap[] partitions = right.compute();
+        return merge(partitions, left.join());
+    }
+
+    private Long2IntOpenHashMap[] count() {
+        Long2IntOpenHashMap[] partitions = new Long2IntOpenHashMap[alphabet.length];
+        long[] letter2positions = new long[alphabet.length];
+        int[] letters = new int[length];
+
+        for (int i = from; i < to; i++) {
+            String word = index.getUpperCaseWord(length, candidates[i]);
+            int offset = 0;
+            for (int position = 0; position < length; position++) {
+                int symbol = word.codePointAt(offset);
+                offset += Character.charCount(symbol);
+                letters[position] = Arrays.binarySearch(alphabet, symbol);
+                letter2positions[letters[position]] |= 1L << position;
+            }
+
+            for (int letter : letters) {
+                if (letter2positions[letter] != 0 && !isTried[letter]) {
+                    partition(partitions, letter).addTo(letter2positions[letter], 1);
+                }
+                letter2positions[letter] = 0;
+            }
+        }
+        return partitions;
+    }
+
+    private static void merge(Long2IntOpenHashMap partition, Long2IntOpenHashMap other) {
+        for (Long2IntMap.Entry entry : other.long2IntEntrySet()) {
+            partition.addTo(entry.getLongKey(), entry.getIntValue());
+        }
+    }
+
+    private static Long2IntOpenHashMap partition(Long2IntOpenHashMap[] partitions, int letter) {
+        if (partitions[letter] == null) {
+            partitions[letter] = new Long2IntOpenHashMap();
+        }
+        return partitions[letter];
+    }
+
+    private static Long2IntOpenHashMap[] merge(Long2IntOpenHashMap[] partitions, Long2IntOpenHashMap[] other) {
+        for (int letter = 0; letter < partitions.length; letter++) {
+            if (other[letter] != null) {
+                merge(partition(partitions, letter), other[letter]);
+            }
+        }
+        return partitions;
+    }
+}
@@ -1,6 +1,7 @@
 package backend.academy.game.dictionary;
 
 import backend.academy.game.Level;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,5 +18,15 @@ public interface Dictionary {
 
     Optional<DictionaryWord> getDictionaryWord(Level level, String category);
 
+    List<DictionaryWord> getDictionaryWords(Level level, String category);
+
     DictionaryWord getDefaultDictionaryWord();
+
+    /**
+     * The dictionary holding the words of this one. A view over another dictionary returns what that one does,
+     * so data derived from the words, e.g. an index, can be kept once for all views.
+     */
+    default Dictionary unwrap() {
+        return this;
+    }
 }
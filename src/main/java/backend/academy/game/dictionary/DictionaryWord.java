@@ -1,5 +1,9 @@
 package backend.academy.game.dictionary;
 
+/**
+ * Two dictionary words are equal if their words and clues are, whatever the implementations,
+ * and the hash code is {@code Objects.hash(word(), clue())}.
+ */
 public interface DictionaryWord {
     String word();
 
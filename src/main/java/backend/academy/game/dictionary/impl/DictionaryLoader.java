@@ -0,0 +1,241 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.random.RandomGenerators;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectPhrase;
+
+/**
+ * Builds a {@link LevelBasedDictionary} from a word list:
+ * <ul>
+ *     <li>text ({@code .txt}) - a word per line, optionally followed by a tab and the clue;</li>
+ *     <li>CSV ({@code .csv}) - {@code level,category,word,clue}, fields may be quoted and the header is optional;</li>
+ *     <li>JSON ({@code .json}) - an array of objects with {@code word}, {@code clue}, {@code level}
+ *     and {@code category}.</li>
+ * </ul>
+ * Entries are validated with {@code isCorrectPhrase}, so phrases are loaded too; words are lower-cased
+ * and clues are trimmed.
+ * A word is kept once, from its first entry. An entry without a category gets the default one,
+ * and an entry without a known level gets one by the word length.
+ * <p>
+ * Lines of text and CSV files are read by a parallel stream, which splits the file into chunks for all cores,
+ * and JSON entries are parsed one by one. Only unique words are kept, so memory grows with the dictionary,
+ * not with the file.
+ */
+public final class DictionaryLoader {
+    private static final int MAX_EASY_LENGTH = 5;
+    private static final int MAX_MEDIUM_LENGTH = 8;
+    private static final char TEXT_SEPARATOR = '\t';
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final int CSV_FIELDS = 4;
+    private static final String CSV_HEADER = "level,category,word,clue";
+    private static final String COMMENT = "#";
+
+    private DictionaryLoader() {
+
+    }
+
+    /**
+     * The default category is the file name without the extension.
+     */
+    public static LevelBasedDictionary load(Path path) throws IOException {
+        String fileName = path.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        return load(path, extension > 0 ? fileName.substring(0, extension) : fileName);
+    }
+
+    public static LevelBasedDictionary load(Path path, String defaultCategory) throws IOException {
+        return load(path, defaultCategory, RandomGenerators.secure());
+    }
+
+    /**
+     * The format is chosen by the file extension, a file with another extension is read as text.
+     * Throws {@link IOException} if the file cannot be read or has no word that can be played.
+     */
+    public static LevelBasedDictionary load(Path path, String defaultCategory, RandomGenerator randomGenerator)
+        throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        List<Entry> entries;
+        if (fileName.endsWith(".json")) {
+            entries = loadJson(path, defaultCategory);
+        } else {
+            entries = loadLines(path, fileName.endsWith(".csv")
+                ? line -> parseCsv(line, defaultCategory)
+                : line -> parseText(line, defaultCategory));
+        }
+
+        if (entries.isEmpty()) {
+            throw new IOException(String.format("%s has no word that can be played.", path));
+        }
+        return LevelBasedDictionary.getInstance(randomGenerator, group(entries));
+    }
+
+    private static List<Entry> loadLines(Path path, LineParser lineParser) throws IOException {
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return collect(lines.parallel().map(lineParser::parse));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Entries are read one by one in the order of the file, a {@code null} entry is incorrect.
+     */
+    private static List<Entry> loadJson(Path path, String defaultCategory) throws IOException {
+        ObjectReader reader = new ObjectMapper().readerFor(JsonEntry.class);
+        Map<String, Entry> word2entry = new LinkedHashMap<>();
+        try (MappingIterator<JsonEntry> iterator = reader.readValues(path.toFile())) {
+            while (iterator.hasNextValue()) {
+                JsonEntry jsonEntry = iterator.nextValue();
+                if (jsonEntry == null) {
+                    throw new IOException(String.format("%s has an incorrect entry: null", path));
+                }
+                Entry entry = entry(
+                    jsonEntry.level(), jsonEntry.category(), jsonEntry.word(), jsonEntry.clue(), defaultCategory
+                );
+                if (entry != null && isCorrectPhrase(entry.dictionaryWord())) {
+                    word2entry.putIfAbsent(entry.dictionaryWord().word(), entry);
+                }
+            }
+        } catch (JsonMappingException e) {
+            throw new IOException(String.format("%s has an incorrect entry: %s", path, e.getOriginalMessage()), e);
+        }
+        return new ArrayList<>(word2entry.values());
+    }
+
+    /**
+     * Keeps correct entries, the first entry of a word wins as the stream is ordered.
+     */
+    private static List<Entry> collect(Stream<Entry> entries) {
+        Map<String, Entry> word2entry = entries
+            .filter(entry -> entry != null && isCorrectPhrase(entry.dictionaryWord()))
+            .collect(Collectors.toMap(
+                entry -> entry.dictionaryWord().word(),
+                entry -> entry,
+                (first, second) -> first,
+                LinkedHashMap::new
+            ));
+        return new ArrayList<>(word2entry.values());
+    }
+
+    private static Map<Level, Map<String, List<DictionaryWord>>> group(List<Entry> entries) {
+        Map<Level, Map<String, List<DictionaryWord>>> level2category2words = new EnumMap<>(Level.class);
+        for (Entry entry : entries) {
+            level2category2words.computeIfAbsent(entry.level(), level -> new LinkedHashMap<>())
+                .computeIfAbsent(entry.category(), category -> new ArrayList<>())
+                .add(entry.dictionaryWord());
+        }
+        return level2category2words;
+    }
+
+    private static Entry parseText(String line, String defaultCategory) {
+        if (line.isBlank() || line.startsWith(COMMENT)) {
+            return null;
+        }
+
+        int separator = line.indexOf(TEXT_SEPARATOR);
+        return separator < 0
+            ? entry(null, null, line, "", defaultCategory)
+            : entry(null, null, line.substring(0, separator), line.substring(separator + 1), defaultCategory);
+    }
+
+    private static Entry parseCsv(String line, String defaultCategory) {
+        if (line.isBlank() || line.strip().equalsIgnoreCase(CSV_HEADER)) {
+            return null;
+        }
+
+        List<String> fields = splitCsv(line);
+        if (fields.size() < CSV_FIELDS - 1) {
+            return null;
+        }
+        String clue = fields.size() < CSV_FIELDS ? "" : fields.get(CSV_FIELDS - 1);
+        return entry(fields.get(0), fields.get(1), fields.get(2), clue, defaultCategory);
+    }
+
+    /**
+     * Splits a CSV line, a quoted field may contain separators and {@code ""} for a quote.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(CSV_FIELDS);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char symbol = line.charAt(i++);
+            if (isQuoted && symbol == CSV_QUOTE && i < line.length() && line.charAt(i) == CSV_QUOTE) {
+                field.append(CSV_QUOTE);
+                i++;
+            } else if (symbol == CSV_QUOTE) {
+                isQuoted = !isQuoted;
+            } else if (symbol == CSV_SEPARATOR && !isQuoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(symbol);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Entry entry(String level, String category, String word, String clue, String defaultCategory) {
+        if (word == null) {
+            return null;
+        }
+
+        String normalizedWord = word.strip().toLowerCase(Locale.ROOT);
+        String normalizedCategory = category == null || category.isBlank() ? defaultCategory : category.strip();
+        return new Entry(
+            level(level, normalizedWord),
+            normalizedCategory,
+            new LevelBasedDictionaryWord(normalizedWord, clue == null ? "" : clue.strip())
+        );
+    }
+
+    private static Level level(String level, String word) {
+        if (level != null) {
+            for (Level value : Level.values()) {
+                if (value.compareToWithIgnoringCase(level.strip())) {
+                    return value;
+                }
+            }
+        }
+
+        if (word.length() <= MAX_EASY_LENGTH) {
+            return Level.EASY;
+        }
+        return word.length() <= MAX_MEDIUM_LENGTH ? Level.MEDIUM : Level.HARD;
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        Entry parse(String line);
+    }
+
+    private record Entry(Level level, String category, DictionaryWord dictionaryWord) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record JsonEntry(String word, String clue, String level, String category) {
+    }
+}
@@ -3,13 +3,20 @@ package backend.academy.game.dictionary.impl;
 import backend.academy.game.Level;
 import backend.academy.game.dictionary.Dictionary;
 import backend.academy.game.dictionary.DictionaryWord;
-import java.security.SecureRandom;
+import backend.academy.game.events.DictionaryDrawEvent;
+import backend.academy.game.random.RandomGenerators;
+import backend.academy.game.session.NormalizedWord;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 /**
  * <ul>
@@ -18,23 +25,46 @@ import java.util.Set;
  *     <li>Advanced</li>
  * </ul>
  * <a href="https://langeek.co/en/vocab/level-based">Resource with english words by categories.</a>
+ * <p>
+ * Words that can be played are handed out as {@link NormalizedWord}, prepared for games once when
+ * the dictionary is built. The dictionary does not change once built, so it can be shared and swapped
+ * by {@link ReloadableDictionary}.
  */
 public final class LevelBasedDictionary implements Dictionary {
-    private final SecureRandom secureRandom;
+    private final RandomGenerator randomGenerator;
     private final Map<Level, SimpleDictionary> level2simpleDictionary;
 
-    private LevelBasedDictionary(SecureRandom secureRandom, Map<Level, SimpleDictionary> level2simpleDictionary) {
-        this.secureRandom = secureRandom;
-        this.level2simpleDictionary = level2simpleDictionary;
+    private LevelBasedDictionary(RandomGenerator randomGenerator, Map<Level, SimpleDictionary> level2simpleDictionary) {
+        this.randomGenerator = randomGenerator;
+        this.level2simpleDictionary = Collections.unmodifiableMap(level2simpleDictionary);
     }
 
     public static LevelBasedDictionary getInstance() {
-        SecureRandom secureRandom = new SecureRandom();
+        return getInstance(RandomGenerators.secure());
+    }
 
-        Map<Level, SimpleDictionary> level2simpleDictionary = new HashMap<>();
+    public static LevelBasedDictionary getInstance(RandomGenerator randomGenerator) {
+        Map<Level, SimpleDictionary> level2simpleDictionary = new EnumMap<>(Level.class);
         fill(level2simpleDictionary);
 
-        return new LevelBasedDictionary(secureRandom, level2simpleDictionary);
+        return new LevelBasedDictionary(randomGenerator, level2simpleDictionary);
+    }
+
+    /**
+     * Dictionary of the given words, e.g. loaded by {@link DictionaryLoader}. Levels without categories are skipped.
+     */
+    public static LevelBasedDictionary getInstance(
+        RandomGenerator randomGenerator,
+        Map<Level, Map<String, List<DictionaryWord>>> level2category2words
+    ) {
+        Map<Level, SimpleDictionary> level2simpleDictionary = new EnumMap<>(Level.class);
+        level2category2words.forEach((level, category2words) -> {
+            if (!category2words.isEmpty()) {
+                level2simpleDictionary.put(level, SimpleDictionary.of(category2words));
+            }
+        });
+
+        return new LevelBasedDictionary(randomGenerator, level2simpleDictionary);
     }
 
     private static void fill(Map<Level, SimpleDictionary> level2simpleDictionary) {
@@ -65,7 +95,7 @@ public final class LevelBasedDictionary implements Dictionary {
                 new LevelBasedDictionaryWord("neck", "Connects the head to the body.")
             )
         );
-        map.put(Level.EASY, new SimpleDictionary(category2words));
+        map.put(Level.EASY, SimpleDictionary.of(category2words));
     }
 
     private static void putMedium(Map<Level, SimpleDictionary> map) {
@@ -90,7 +120,7 @@ public final class LevelBasedDictionary implements Dictionary {
                 new LevelBasedDictionaryWord("cruel", "Characterized by a lack of kindness or compassion.")
             )
         );
-        map.put(Level.MEDIUM, new SimpleDictionary(category2words));
+        map.put(Level.MEDIUM, SimpleDictionary.of(category2words));
     }
 
     private static void putHard(Map<Level, SimpleDictionary> map) {
@@ -115,7 +145,7 @@ public final class LevelBasedDictionary implements Dictionary {
                 new LevelBasedDictionaryWord("election", "Formal decision-making process.")
             )
         );
-        map.put(Level.HARD, new SimpleDictionary(category2words));
+        map.put(Level.HARD, SimpleDictionary.of(category2words));
     }
 
     @Override
@@ -125,7 +155,10 @@ public final class LevelBasedDictionary implements Dictionary {
 
     @Override
     public Level getDefaultLevel() {
-        return Level.MEDIUM;
+        if (level2simpleDictionary.isEmpty() || level2simpleDictionary.containsKey(Level.MEDIUM)) {
+            return Level.MEDIUM;
+        }
+        return level2simpleDictionary.keySet().iterator().next();
     }
 
     @Override
@@ -140,23 +173,12 @@ public final class LevelBasedDictionary implements Dictionary {
 
     @Override
     public Optional<String> getCategoryByLevel(Level level) {
-        Set<String> categories = getCategoriesByLevel(level);
-        if (categories.isEmpty()) {
+        SimpleDictionary simpleDictionary = level2simpleDictionary.get(level);
+        if (simpleDictionary == null) {
             return Optional.empty();
         }
 
-        int index = secureRandom.nextInt(categories.size());
-
-        int i = 0;
-        for (String category : categories) {
-            if (i == index) {
-                return Optional.of(category);
-            } else {
-                i++;
-            }
-        }
-
-        return Optional.empty();
+        return simpleDictionary.getCategory(randomGenerator);
     }
 
     @Override
@@ -166,12 +188,30 @@ public final class LevelBasedDictionary implements Dictionary {
 
     @Override
     public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        DictionaryDrawEvent event = new DictionaryDrawEvent();
+        event.begin();
+        Optional<DictionaryWord> dictionaryWord = drawDictionaryWord(level, category);
+        event.report(level, category, dictionaryWord.isPresent());
+        return dictionaryWord;
+    }
+
+    private Optional<DictionaryWord> drawDictionaryWord(Level level, String category) {
         SimpleDictionary simpleDictionary = level2simpleDictionary.get(level);
         if (simpleDictionary == null) {
             return Optional.empty();
         }
 
-        return simpleDictionary.getDictionaryWord(secureRandom, category);
+        return simpleDictionary.getDictionaryWord(randomGenerator, category);
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        SimpleDictionary simpleDictionary = level2simpleDictionary.get(level);
+        if (simpleDictionary == null) {
+            return Collections.emptyList();
+        }
+
+        return simpleDictionary.getDictionaryWords(category);
     }
 
     @Override
@@ -179,19 +219,72 @@ public final class LevelBasedDictionary implements Dictionary {
         return getDictionaryWord(getDefaultLevel(), getDefaultCategory()).orElseThrow();
     }
 
-    private record SimpleDictionary(Map<String, List<DictionaryWord>> category2words) {
+    /**
+     * Categories of one level, numbered in alphabetical order; words are stored in arrays indexed by category number.
+     */
+    private static final class SimpleDictionary {
+        private final String[] categories;
+        private final Set<String> categorySet;
+        private final Map<String, Integer> category2index;
+        private final DictionaryWord[][] category2words;
+
+        private SimpleDictionary(
+            String[] categories,
+            Map<String, Integer> category2index,
+            DictionaryWord[][] category2words
+        ) {
+            this.categories = categories;
+            this.categorySet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(categories)));
+            this.category2index = category2index;
+            this.category2words = category2words;
+        }
+
+        static SimpleDictionary of(Map<String, List<DictionaryWord>> category2words) {
+            String[] categories = new TreeSet<>(category2words.keySet()).toArray(String[]::new);
+
+            Map<String, Integer> category2index = new HashMap<>();
+            DictionaryWord[][] words = new DictionaryWord[categories.length][];
+            for (int i = 0; i < categories.length; i++) {
+                category2index.put(categories[i], i);
+                words[i] = category2words.get(categories[i]).stream()
+                    .map(NormalizedWord::normalize)
+                    .toArray(DictionaryWord[]::new);
+            }
+
+            return new SimpleDictionary(categories, category2index, words);
+        }
+
         public Set<String> getCategories() {
-            return category2words.keySet();
+            return categorySet;
         }
 
-        public Optional<DictionaryWord> getDictionaryWord(SecureRandom secureRandom, String category) {
-            List<DictionaryWord> words = category2words.get(category);
-            if (words == null || words.isEmpty()) {
+        public Optional<String> getCategory(RandomGenerator randomGenerator) {
+            if (categories.length == 0) {
                 return Optional.empty();
             }
 
-            int randomIndex = secureRandom.nextInt(words.size());
-            return Optional.of(words.get(randomIndex));
+            int randomIndex = randomGenerator.nextInt(categories.length);
+            return Optional.of(categories[randomIndex]);
+        }
+
+        public Optional<DictionaryWord> getDictionaryWord(RandomGenerator randomGenerator, String category) {
+            Integer index = category2index.get(category);
+            if (index == null || category2words[index].length == 0) {
+                return Optional.empty();
+            }
+
+            DictionaryWord[] words = category2words[index];
+            int randomIndex = randomGenerator.nextInt(words.length);
+            return Optional.of(words[randomIndex]);
+        }
+
+        public List<DictionaryWord> getDictionaryWords(String category) {
+            Integer index = category2index.get(category);
+            if (index == null) {
+                return Collections.emptyList();
+            }
+
+            return Collections.unmodifiableList(Arrays.asList(category2words[index]));
         }
     }
 }
@@ -1,7 +1,17 @@
 package backend.academy.game.dictionary.impl;
 
 import backend.academy.game.dictionary.DictionaryWord;
+import java.util.Objects;
 
 public record LevelBasedDictionaryWord(String word, String clue) implements DictionaryWord {
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DictionaryWord other && Objects.equals(word, other.word())
+            && Objects.equals(clue, other.clue());
+    }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, clue);
+    }
 }
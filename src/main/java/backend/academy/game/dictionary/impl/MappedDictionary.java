@@ -0,0 +1,259 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.events.DictionaryDrawEvent;
+import backend.academy.game.random.RandomGenerators;
+import backend.academy.game.session.NormalizedWord;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.CATEGORY_COUNT_OFFSET;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.CATEGORY_ENTRY_SIZE;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.INT;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.LEVEL_COUNT_OFFSET;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.LEVEL_ENTRY_SIZE;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.LONG;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.MAGIC;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.MAGIC_OFFSET;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.VERSION;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.VERSION_OFFSET;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.WORD_ENTRY_SIZE;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.categoriesOffset;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.levelsOffset;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.wordsOffset;
+
+/**
+ * Dictionary backed by a memory-mapped file written by {@link MappedDictionaryWriter}.
+ * Only level and category names are read on opening, words are decoded when they are drawn
+ * and handed out as {@link NormalizedWord}, so the session of a drawn word does not prepare it again.
+ */
+public final class MappedDictionary implements Dictionary, AutoCloseable {
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final RandomGenerator randomGenerator;
+    private final Map<Level, LevelTable> level2table;
+    private final long categoriesOffset;
+    private final long wordsOffset;
+
+    private MappedDictionary(
+        Arena arena,
+        MemorySegment segment,
+        RandomGenerator randomGenerator,
+        Map<Level, LevelTable> level2table
+    ) {
+        this.arena = arena;
+        this.segment = segment;
+        this.randomGenerator = randomGenerator;
+        this.level2table = level2table;
+
+        int levelCount = segment.get(INT, LEVEL_COUNT_OFFSET);
+        int categoryCount = segment.get(INT, CATEGORY_COUNT_OFFSET);
+        this.categoriesOffset = categoriesOffset(levelCount);
+        this.wordsOffset = wordsOffset(levelCount, categoryCount);
+    }
+
+    public static MappedDictionary getInstance(Path path) throws IOException {
+        return getInstance(path, RandomGenerators.secure());
+    }
+
+    public static MappedDictionary getInstance(Path path, RandomGenerator randomGenerator) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            checkHeader(segment, path);
+            return new MappedDictionary(arena, segment, randomGenerator, readLevels(segment, path));
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    private static void checkHeader(MemorySegment segment, Path path) throws IOException {
+        if (segment.byteSize() < MappedDictionaryFormat.HEADER_SIZE || segment.get(INT, MAGIC_OFFSET) != MAGIC) {
+            throw notDictionaryFile(path);
+        }
+
+        int version = segment.get(INT, VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IOException(String.format("%s has unsupported dictionary version %d.", path, version));
+        }
+    }
+
+    private static IOException notDictionaryFile(Path path) {
+        return new IOException(String.format("%s is not a dictionary file.", path));
+    }
+
+    private static Map<Level, LevelTable> readLevels(MemorySegment segment, Path path) throws IOException {
+        int levelCount = segment.get(INT, LEVEL_COUNT_OFFSET);
+        long categoriesOffset = categoriesOffset(levelCount);
+        Level[] levels = Level.values();
+
+        Map<Level, LevelTable> level2table = new EnumMap<>(Level.class);
+        for (int i = 0; i < levelCount; i++) {
+            long levelOffset = levelsOffset() + i * LEVEL_ENTRY_SIZE;
+            int ordinal = segment.get(INT, levelOffset);
+            if (ordinal < 0 || ordinal >= levels.length) {
+                throw notDictionaryFile(path);
+            }
+            Level level = levels[ordinal];
+            int firstCategory = segment.get(INT, levelOffset + Integer.BYTES);
+            int categoryCount = segment.get(INT, levelOffset + 2L * Integer.BYTES);
+
+            List<String> categories = new ArrayList<>(categoryCount);
+            Map<String, Integer> category2index = new HashMap<>();
+            for (int category = firstCategory; category < firstCategory + categoryCount; category++) {
+                String name = readString(segment, segment.get(LONG, categoriesOffset + category * CATEGORY_ENTRY_SIZE));
+                categories.add(name);
+                category2index.put(name, category);
+            }
+
+            level2table.put(level, new LevelTable(
+                categories,
+                Collections.unmodifiableSet(new LinkedHashSet<>(categories)),
+                category2index
+            ));
+        }
+        return level2table;
+    }
+
+    private static String readString(MemorySegment segment, long offset) {
+        int length = segment.get(INT, offset);
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset + Integer.BYTES, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Set<Level> getLevels() {
+        return Collections.unmodifiableSet(level2table.keySet());
+    }
+
+    @Override
+    public Level getDefaultLevel() {
+        if (level2table.isEmpty() || level2table.containsKey(Level.MEDIUM)) {
+            return Level.MEDIUM;
+        }
+        return level2table.keySet().iterator().next();
+    }
+
+    @Override
+    public Set<String> getCategoriesByLevel(Level level) {
+        LevelTable levelTable = level2table.get(level);
+        if (levelTable == null) {
+            return Collections.emptySet();
+        } else {
+            return levelTable.categorySet();
+        }
+    }
+
+    @Override
+    public Optional<String> getCategoryByLevel(Level level) {
+        LevelTable levelTable = level2table.get(level);
+        if (levelTable == null || levelTable.categories().isEmpty()) {
+            return Optional.empty();
+        }
+
+        int index = randomGenerator.nextInt(levelTable.categories().size());
+        return Optional.of(levelTable.categories().get(index));
+    }
+
+    @Override
+    public String getDefaultCategory() {
+        return getCategoryByLevel(getDefaultLevel()).orElseThrow();
+    }
+
+    @Override
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        DictionaryDrawEvent event = new DictionaryDrawEvent();
+        event.begin();
+        Optional<DictionaryWord> dictionaryWord = drawDictionaryWord(level, category);
+        event.report(level, category, dictionaryWord.isPresent());
+        return dictionaryWord;
+    }
+
+    private Optional<DictionaryWord> drawDictionaryWord(Level level, String category) {
+        int categoryIndex = indexOf(level, category);
+        if (categoryIndex < 0) {
+            return Optional.empty();
+        }
+
+        int wordCount = wordCount(categoryIndex);
+        if (wordCount == 0) {
+            return Optional.empty();
+        }
+
+        int randomIndex = randomGenerator.nextInt(wordCount);
+        return Optional.of(readWord(firstWord(categoryIndex) + randomIndex));
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        int categoryIndex = indexOf(level, category);
+        if (categoryIndex < 0) {
+            return Collections.emptyList();
+        }
+
+        int firstWord = firstWord(categoryIndex);
+        int wordCount = wordCount(categoryIndex);
+        List<DictionaryWord> words = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            words.add(readWord(firstWord + i));
+        }
+        return words;
+    }
+
+    @Override
+    public DictionaryWord getDefaultDictionaryWord() {
+        return getDictionaryWord(getDefaultLevel(), getDefaultCategory()).orElseThrow();
+    }
+
+    private int indexOf(Level level, String category) {
+        LevelTable levelTable = level2table.get(level);
+        if (levelTable == null) {
+            return -1;
+        }
+
+        Integer categoryIndex = levelTable.category2index().get(category);
+        return categoryIndex == null ? -1 : categoryIndex;
+    }
+
+    private int firstWord(int categoryIndex) {
+        return segment.get(INT, categoriesOffset + categoryIndex * CATEGORY_ENTRY_SIZE + Long.BYTES);
+    }
+
+    private int wordCount(int categoryIndex) {
+        return segment.get(INT, categoriesOffset + categoryIndex * CATEGORY_ENTRY_SIZE + Long.BYTES + Integer.BYTES);
+    }
+
+    private DictionaryWord readWord(int wordIndex) {
+        long offset = segment.get(LONG, wordsOffset + wordIndex * WORD_ENTRY_SIZE);
+        String word = readString(segment, offset);
+        long clueOffset = offset + Integer.BYTES + segment.get(INT, offset);
+        return NormalizedWord.normalize(new LevelBasedDictionaryWord(word, readString(segment, clueOffset)));
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private record LevelTable(List<String> categories, Set<String> categorySet, Map<String, Integer> category2index) {
+    }
+}
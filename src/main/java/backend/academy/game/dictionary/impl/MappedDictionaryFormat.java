@@ -0,0 +1,54 @@
+package backend.academy.game.dictionary.impl;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary dictionary file, all numbers are big-endian:
+ * <pre>
+ * header     magic, version, level count, category count, word count      (int each)
+ * levels     level ordinal, first category, category count                (int each)
+ * categories offset of the name (long), first word, word count            (int each)
+ * words      offset of the word record                                    (long)
+ * data       names as (length, UTF-8 bytes), words as (length, UTF-8 bytes) of word and then of clue
+ * </pre>
+ * Categories of a level and words of a category are stored contiguously.
+ */
+final class MappedDictionaryFormat {
+    static final int MAGIC = 0x484D4443;
+    static final int VERSION = 1;
+
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    static final long MAGIC_OFFSET = 0;
+    static final long VERSION_OFFSET = 4;
+    static final long LEVEL_COUNT_OFFSET = 8;
+    static final long CATEGORY_COUNT_OFFSET = 12;
+    static final long WORD_COUNT_OFFSET = 16;
+    static final long HEADER_SIZE = 20;
+
+    static final long LEVEL_ENTRY_SIZE = 3L * Integer.BYTES;
+    static final long CATEGORY_ENTRY_SIZE = Long.BYTES + 2L * Integer.BYTES;
+    static final long WORD_ENTRY_SIZE = Long.BYTES;
+
+    private MappedDictionaryFormat() {
+
+    }
+
+    static long levelsOffset() {
+        return HEADER_SIZE;
+    }
+
+    static long categoriesOffset(int levelCount) {
+        return levelsOffset() + levelCount * LEVEL_ENTRY_SIZE;
+    }
+
+    static long wordsOffset(int levelCount, int categoryCount) {
+        return categoriesOffset(levelCount) + categoryCount * CATEGORY_ENTRY_SIZE;
+    }
+
+    static long dataOffset(int levelCount, int categoryCount, int wordCount) {
+        return wordsOffset(levelCount, categoryCount) + wordCount * WORD_ENTRY_SIZE;
+    }
+}
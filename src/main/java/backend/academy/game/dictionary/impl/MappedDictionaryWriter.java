@@ -0,0 +1,101 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.MAGIC;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.VERSION;
+import static backend.academy.game.dictionary.impl.MappedDictionaryFormat.dataOffset;
+
+/**
+ * Writes any {@link Dictionary} in the format read by {@link MappedDictionary}.
+ */
+public final class MappedDictionaryWriter {
+    private MappedDictionaryWriter() {
+
+    }
+
+    public static void write(Dictionary dictionary, Path path) throws IOException {
+        List<LevelEntry> levels = new ArrayList<>();
+        List<CategoryEntry> categories = new ArrayList<>();
+        List<WordEntry> words = new ArrayList<>();
+
+        for (Level level : new TreeSet<>(dictionary.getLevels())) {
+            int firstCategory = categories.size();
+            for (String category : new TreeSet<>(dictionary.getCategoriesByLevel(level))) {
+                int firstWord = words.size();
+                for (DictionaryWord dictionaryWord : dictionary.getDictionaryWords(level, category)) {
+                    words.add(new WordEntry(encode(dictionaryWord.word()), encode(dictionaryWord.clue())));
+                }
+                categories.add(new CategoryEntry(encode(category), firstWord, words.size() - firstWord));
+            }
+            levels.add(new LevelEntry(level.ordinal(), firstCategory, categories.size() - firstCategory));
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            writeHeader(out, levels.size(), categories.size(), words.size());
+
+            for (LevelEntry level : levels) {
+                out.writeInt(level.ordinal());
+                out.writeInt(level.firstCategory());
+                out.writeInt(level.categoryCount());
+            }
+
+            long offset = dataOffset(levels.size(), categories.size(), words.size());
+            for (CategoryEntry category : categories) {
+                out.writeLong(offset);
+                out.writeInt(category.firstWord());
+                out.writeInt(category.wordCount());
+                offset += Integer.BYTES + category.name().length;
+            }
+            for (WordEntry word : words) {
+                out.writeLong(offset);
+                offset += 2L * Integer.BYTES + word.word().length + word.clue().length;
+            }
+
+            for (CategoryEntry category : categories) {
+                writeBytes(out, category.name());
+            }
+            for (WordEntry word : words) {
+                writeBytes(out, word.word());
+                writeBytes(out, word.clue());
+            }
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, int levelCount, int categoryCount, int wordCount)
+        throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(levelCount);
+        out.writeInt(categoryCount);
+        out.writeInt(wordCount);
+    }
+
+    private static byte[] encode(String string) {
+        return string == null ? new byte[0] : string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private record LevelEntry(int ordinal, int firstCategory, int categoryCount) {
+    }
+
+    private record CategoryEntry(byte[] name, int firstWord, int wordCount) {
+    }
+
+    private record WordEntry(byte[] word, byte[] clue) {
+    }
+}
@@ -0,0 +1,285 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectWord;
+import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
+
+/**
+ * Index of words by pattern, e.g. {@code _A__E___} without R, S and T.
+ * Words are grouped by length and numbered in every group. For every position and letter a group keeps
+ * the bitset of words with the letter at the position, and for every letter the bitset of words containing it.
+ * A query is a few intersections of bitsets, one bit per word, instead of a scan over the words.
+ * <p>
+ * Patterns follow the rules of the game: a revealed letter is revealed at all its positions,
+ * so hidden positions of a matching word hold neither revealed nor excluded letters.
+ * Patterns and letters are case-insensitive and upper-cased letter by letter like guesses of the game,
+ * lengths and positions are in letters, so a letter outside the Basic Multilingual Plane is one letter.
+ */
+public final class PatternIndex {
+    public static final char HIDDEN_SYMBOL = '_';
+
+    private final int[] alphabet;
+    private final LengthGroup[] length2group;
+
+    private PatternIndex(int[] alphabet, LengthGroup[] length2group) {
+        this.alphabet = alphabet;
+        this.length2group = length2group;
+    }
+
+    /**
+     * Indexes all words of the dictionary by sorted level and category.
+     */
+    public static PatternIndex getInstance(Dictionary dictionary) {
+        List<DictionaryWord> words = new ArrayList<>();
+        for (Level level : new TreeSet<>(dictionary.getLevels())) {
+            for (String category : new TreeSet<>(dictionary.getCategoriesByLevel(level))) {
+                words.addAll(dictionary.getDictionaryWords(level, category));
+            }
+        }
+        return getInstance(words);
+    }
+
+    public static PatternIndex getInstance(Dictionary dictionary, Level level, String category) {
+        return getInstance(dictionary.getDictionaryWords(level, category));
+    }
+
+    /**
+     * Words that cannot be played are skipped, words that differ only in case are indexed once.
+     */
+    public static PatternIndex getInstance(Collection<DictionaryWord> words) {
+        Map<String, DictionaryWord> upperCaseWord2word = new LinkedHashMap<>();
+        TreeSet<Integer> letters = new TreeSet<>();
+        int maxLength = 0;
+        for (DictionaryWord dictionaryWord : words) {
+            if (isCorrectWord(dictionaryWord)) {
+                String upperCaseWord = toUpperCase(dictionaryWord.word());
+                upperCaseWord2word.putIfAbsent(upperCaseWord, dictionaryWord);
+                upperCaseWord.codePoints().forEach(letters::add);
+                maxLength = Math.max(maxLength, length(upperCaseWord));
+            }
+        }
+
+        int[] alphabet = letters.stream().mapToInt(Integer::intValue).toArray();
+
+        List<List<Map.Entry<String, DictionaryWord>>> length2words = new ArrayList<>();
+        for (int length = 0; length <= maxLength; length++) {
+            length2words.add(new ArrayList<>());
+        }
+        for (Map.Entry<String, DictionaryWord> entry : upperCaseWord2word.entrySet()) {
+            length2words.get(length(entry.getKey())).add(entry);
+        }
+
+        LengthGroup[] length2group = new LengthGroup[maxLength + 1];
+        for (int length = 0; length <= maxLength; length++) {
+            if (!length2words.get(length).isEmpty()) {
+                length2group[length] = LengthGroup.of(alphabet, length, length2words.get(length));
+            }
+        }
+        return new PatternIndex(alphabet, length2group);
+    }
+
+    /**
+     * Returns numbers of the matching words among the words of the pattern length.
+     */
+    public BitSet match(String pattern, String excludedSymbols) {
+        int[] symbols = pattern.codePoints().toArray();
+        LengthGroup group = getGroup(symbols.length);
+        if (group == null) {
+            return new BitSet();
+        }
+
+        long[] result = group.allWords();
+        if (!keepRevealed(group, symbols, result)) {
+            return new BitSet();
+        }
+        excludedSymbols.codePoints().forEach(symbol -> {
+            int letter = letterIndex(symbol);
+            if (letter >= 0) {
+                andNot(result, group.letterBits()[letter]);
+            }
+        });
+        return BitSet.valueOf(result);
+    }
+
+    /**
+     * Keeps words with the revealed letters at their positions and nowhere else,
+     * returns {@code false} if no word can match.
+     */
+    private boolean keepRevealed(LengthGroup group, int[] pattern, long[] result) {
+        BitSet revealedLetters = new BitSet(alphabet.length);
+        for (int position = 0; position < pattern.length; position++) {
+            if (pattern[position] != HIDDEN_SYMBOL) {
+                int letter = letterIndex(pattern[position]);
+                if (letter < 0) {
+                    return false;
+                }
+                and(result, group.bits(position, letter));
+                revealedLetters.set(letter);
+            }
+        }
+
+        for (int position = 0; position < pattern.length; position++) {
+            if (pattern[position] == HIDDEN_SYMBOL) {
+                andNot(result, group, position, revealedLetters);
+            }
+        }
+        return true;
+    }
+
+    private static void andNot(long[] result, LengthGroup group, int position, BitSet letters) {
+        for (int letter = letters.nextSetBit(0); letter >= 0; letter = letters.nextSetBit(letter + 1)) {
+            andNot(result, group.bits(position, letter));
+        }
+    }
+
+    private static void and(long[] result, long[] bits) {
+        if (bits == null) {
+            Arrays.fill(result, 0);
+            return;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= bits[i];
+        }
+    }
+
+    private static void andNot(long[] result, long[] bits) {
+        if (bits == null) {
+            return;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= ~bits[i];
+        }
+    }
+
+    public int count(String pattern, String excludedSymbols) {
+        return match(pattern, excludedSymbols).cardinality();
+    }
+
+    public List<DictionaryWord> find(String pattern, String excludedSymbols) {
+        BitSet matches = match(pattern, excludedSymbols);
+        List<DictionaryWord> words = new ArrayList<>(matches.cardinality());
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            words.add(getGroup(length(pattern)).words()[id]);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the word with the given number among the words of the given length, as it is in the dictionary.
+     */
+    public DictionaryWord getDictionaryWord(int length, int id) {
+        return getGroup(length, id).words()[id];
+    }
+
+    /**
+     * Same as {@link #getDictionaryWord(int, int)}, but the word is in upper case like patterns of the game.
+     */
+    public String getUpperCaseWord(int length, int id) {
+        return getGroup(length, id).upperCaseWords()[id];
+    }
+
+    /**
+     * Returns the number of indexed words of the given length.
+     */
+    public int size(int length) {
+        LengthGroup group = getGroup(length);
+        return group == null ? 0 : group.words().length;
+    }
+
+    /**
+     * Returns letters of all indexed words in ascending order of code points.
+     */
+    public String alphabet() {
+        return new String(alphabet, 0, alphabet.length);
+    }
+
+    private LengthGroup getGroup(int length) {
+        return length < length2group.length ? length2group[length] : null;
+    }
+
+    private LengthGroup getGroup(int length, int id) {
+        LengthGroup group = getGroup(length);
+        if (group == null || id < 0 || id >= group.words().length) {
+            throw new IllegalArgumentException(String.format("There is no word %d of length %d.", id, length));
+        }
+        return group;
+    }
+
+    private int letterIndex(int symbol) {
+        int index = Arrays.binarySearch(alphabet, toUpperCase(symbol));
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Returns the number of letters of the word.
+     */
+    private static int length(String word) {
+        return word.codePointCount(0, word.length());
+    }
+
+    /**
+     * Bitsets of words of one length, a {@code null} bitset has no words.
+     *
+     * @param positionLetterBits bitsets by {@code position * alphabet size + letter}
+     * @param letterBits         bitsets by letter
+     */
+    private record LengthGroup(
+        DictionaryWord[] words,
+        String[] upperCaseWords,
+        int alphabetSize,
+        long[][] positionLetterBits,
+        long[][] letterBits
+    ) {
+        static LengthGroup of(int[] alphabet, int length, List<Map.Entry<String, DictionaryWord>> entries) {
+            int numberOfLongs = (entries.size() + Long.SIZE - 1) / Long.SIZE;
+            DictionaryWord[] words = new DictionaryWord[entries.size()];
+            String[] upperCaseWords = new String[entries.size()];
+            long[][] positionLetterBits = new long[length * alphabet.length][];
+            long[][] letterBits = new long[alphabet.length][];
+
+            for (int id = 0; id < words.length; id++) {
+                String upperCaseWord = entries.get(id).getKey();
+                upperCaseWords[id] = upperCaseWord;
+                words[id] = entries.get(id).getValue();
+                int[] symbols = upperCaseWord.codePoints().toArray();
+                for (int position = 0; position < length; position++) {
+                    int letter = Arrays.binarySearch(alphabet, symbols[position]);
+                    set(positionLetterBits, position * alphabet.length + letter, numberOfLongs, id);
+                    set(letterBits, letter, numberOfLongs, id);
+                }
+            }
+            return new LengthGroup(words, upperCaseWords, alphabet.length, positionLetterBits, letterBits);
+        }
+
+        private static void set(long[][] bitsets, int index, int numberOfLongs, int id) {
+            if (bitsets[index] == null) {
+                bitsets[index] = new long[numberOfLongs];
+            }
+            bitsets[index][id / Long.SIZE] |= 1L << id;
+        }
+
+        long[] bits(int position, int letter) {
+            return positionLetterBits[position * alphabetSize + letter];
+        }
+
+        long[] allWords() {
+            long[] bits = new long[(words.length + Long.SIZE - 1) / Long.SIZE];
+            Arrays.fill(bits, -1L);
+            int remainder = words.length % Long.SIZE;
+            if (remainder != 0) {
+                bits[bits.length - 1] = (1L << remainder) - 1;
+            }
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The last words a player has got, the oldest word is forgotten when the history is full.
+ * Used by {@link ShuffleBagDictionary} to skip words the player has seen recently.
+ */
+public final class PlayerHistory {
+    private final int capacity;
+    private final Set<DictionaryWord> words;
+
+    private PlayerHistory(int capacity) {
+        this.capacity = capacity;
+        this.words = new LinkedHashSet<>();
+    }
+
+    public static PlayerHistory getInstance(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Capacity must be positive: %d", capacity));
+        }
+        return new PlayerHistory(capacity);
+    }
+
+    public synchronized boolean contains(DictionaryWord dictionaryWord) {
+        return words.contains(dictionaryWord);
+    }
+
+    /**
+     * A word already in the history becomes the newest one.
+     */
+    public synchronized void add(DictionaryWord dictionaryWord) {
+        words.remove(dictionaryWord);
+        words.add(dictionaryWord);
+        if (words.size() > capacity) {
+            Iterator<DictionaryWord> oldest = words.iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return words.size();
+    }
+}
@@ -0,0 +1,141 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Dictionary that can be replaced while games are played.
+ * A reload builds the new dictionary on a background thread and publishes it with one atomic swap
+ * of an immutable snapshot, so readers never block and never see a dictionary that is not fully built.
+ * Words already drawn are not affected, so running games keep their words.
+ * <p>
+ * Every call reads the snapshot current at the moment. Calls that must agree with each other,
+ * e.g. a level and then its categories, should go to one {@link #snapshot()}.
+ */
+public final class ReloadableDictionary implements Dictionary, AutoCloseable {
+    private final Source source;
+    private final AtomicReference<Snapshot> snapshot;
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+        .name("dictionary-reloader")
+        .daemon()
+        .factory());
+
+    private ReloadableDictionary(Source source, Dictionary dictionary) {
+        this.source = source;
+        this.snapshot = new AtomicReference<>(new Snapshot(1, dictionary));
+    }
+
+    /**
+     * The first dictionary is loaded right away, so a broken source fails here.
+     */
+    public static ReloadableDictionary getInstance(Source source) throws IOException {
+        return new ReloadableDictionary(source, source.load());
+    }
+
+    /**
+     * Loads the new dictionary in the background. Reloads run one at a time in the order of calls.
+     * If loading fails, the current snapshot stays and the result completes exceptionally.
+     */
+    public CompletableFuture<Snapshot> reload() {
+        return CompletableFuture.supplyAsync(() -> {
+            Dictionary dictionary;
+            try {
+                dictionary = source.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Snapshot current = snapshot.get();
+            Snapshot next = new Snapshot(current.version() + 1, dictionary);
+            snapshot.set(next);
+            return next;
+        }, reloader);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    @Override
+    public Set<Level> getLevels() {
+        return snapshot.get().dictionary().getLevels();
+    }
+
+    @Override
+    public Level getDefaultLevel() {
+        return snapshot.get().dictionary().getDefaultLevel();
+    }
+
+    @Override
+    public Set<String> getCategoriesByLevel(Level level) {
+        return snapshot.get().dictionary().getCategoriesByLevel(level);
+    }
+
+    @Override
+    public Optional<String> getCategoryByLevel(Level level) {
+        return snapshot.get().dictionary().getCategoryByLevel(level);
+    }
+
+    @Override
+    public String getDefaultCategory() {
+        return snapshot.get().dictionary().getDefaultCategory();
+    }
+
+    @Override
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        return snapshot.get().dictionary().getDictionaryWord(level, category);
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        return snapshot.get().dictionary().getDictionaryWords(level, category);
+    }
+
+    /**
+     * The default level and category are taken from one snapshot.
+     */
+    @Override
+    public DictionaryWord getDefaultDictionaryWord() {
+        return snapshot.get().dictionary().getDefaultDictionaryWord();
+    }
+
+    /**
+     * Returns the dictionary of the current snapshot, so data derived from the words follows reloads.
+     */
+    @Override
+    public Dictionary unwrap() {
+        return snapshot.get().dictionary().unwrap();
+    }
+
+    /**
+     * Stops reloading, a reload in progress is finished first.
+     */
+    @Override
+    public void close() {
+        reloader.close();
+    }
+
+    /**
+     * Builds a whole new dictionary, e.g. {@code () -> DictionaryLoader.load(path)}.
+     * The dictionary must not change once built.
+     */
+    @FunctionalInterface
+    public interface Source {
+        Dictionary load() throws IOException;
+    }
+
+    /**
+     * A dictionary and its version, the first dictionary is version 1.
+     */
+    public record Snapshot(long version, Dictionary dictionary) {
+    }
+}
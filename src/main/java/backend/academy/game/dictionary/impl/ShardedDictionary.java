@@ -0,0 +1,237 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.events.DictionaryDrawEvent;
+import backend.academy.game.random.RandomGenerators;
+import backend.academy.game.session.NormalizedWord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Dictionary of a directory written by {@link ShardedDictionaryWriter}: an index of levels, categories
+ * and word counts, and a shard file with the words of every category.
+ * <p>
+ * Only the index is read on opening, so menus cost nothing but names. The words of a category are read
+ * when the category is drawn from for the first time and kept softly, so the garbage collector evicts
+ * cold categories under memory pressure and they are read again when needed.
+ * A shard that cannot be read fails the draw with {@link UncheckedIOException}.
+ */
+public final class ShardedDictionary implements Dictionary {
+    static final String INDEX_FILE = "index.tsv";
+    static final char SEPARATOR = '\t';
+    static final int INDEX_FIELDS = 4;
+
+    private final Path directory;
+    private final RandomGenerator randomGenerator;
+    private final Map<Level, LevelShards> level2shards;
+    private final Cache<Shard, DictionaryWord[]> shard2words;
+
+    private ShardedDictionary(Path directory, RandomGenerator randomGenerator, Map<Level, LevelShards> level2shards) {
+        this.directory = directory;
+        this.randomGenerator = randomGenerator;
+        this.level2shards = Collections.unmodifiableMap(level2shards);
+        this.shard2words = Caffeine.newBuilder()
+            .softValues()
+            .recordStats()
+            .build();
+    }
+
+    public static ShardedDictionary getInstance(Path directory) throws IOException {
+        return getInstance(directory, RandomGenerators.secure());
+    }
+
+    /**
+     * Throws {@link IOException} if the index cannot be read or is corrupted.
+     */
+    public static ShardedDictionary getInstance(Path directory, RandomGenerator randomGenerator) throws IOException {
+        Map<Level, Map<String, Shard>> level2category2shard = new EnumMap<>(Level.class);
+        List<String> lines = Files.readAllLines(directory.resolve(INDEX_FILE), StandardCharsets.UTF_8);
+        for (String line : lines) {
+            Shard shard = parseShard(line);
+            level2category2shard.computeIfAbsent(shard.level(), level -> new TreeMap<>())
+                .put(shard.category(), shard);
+        }
+
+        Map<Level, LevelShards> level2shards = new EnumMap<>(Level.class);
+        level2category2shard.forEach(
+            (level, category2shard) -> level2shards.put(level, LevelShards.of(category2shard))
+        );
+        return new ShardedDictionary(directory, randomGenerator, level2shards);
+    }
+
+    private static Shard parseShard(String line) throws IOException {
+        String[] fields = line.split(String.valueOf(SEPARATOR), INDEX_FIELDS);
+        if (fields.length != INDEX_FIELDS) {
+            throw new IOException(String.format("Corrupted index line: %s", line));
+        }
+
+        try {
+            return new Shard(
+                Level.valueOf(fields[0]), Integer.parseInt(fields[1]), fields[2], fields[INDEX_FIELDS - 1]
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Corrupted index line: %s", line), e);
+        }
+    }
+
+    @Override
+    public Set<Level> getLevels() {
+        return level2shards.keySet();
+    }
+
+    @Override
+    public Level getDefaultLevel() {
+        if (level2shards.isEmpty() || level2shards.containsKey(Level.MEDIUM)) {
+            return Level.MEDIUM;
+        }
+        return level2shards.keySet().iterator().next();
+    }
+
+    @Override
+    public Set<String> getCategoriesByLevel(Level level) {
+        LevelShards levelShards = level2shards.get(level);
+        return levelShards == null ? Collections.emptySet() : levelShards.categorySet();
+    }
+
+    @Override
+    public Optional<String> getCategoryByLevel(Level level) {
+        LevelShards levelShards = level2shards.get(level);
+        if (levelShards == null || levelShards.categories().length == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(levelShards.categories()[randomGenerator.nextInt(levelShards.categories().length)]);
+    }
+
+    @Override
+    public String getDefaultCategory() {
+        return getCategoryByLevel(getDefaultLevel()).orElseThrow();
+    }
+
+    /**
+     * Returns the number of words of the category from the index, without reading the words.
+     */
+    public int countDictionaryWords(Level level, String category) {
+        return getShard(level, category).map(Shard::size).orElse(0);
+    }
+
+    @Override
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        DictionaryDrawEvent event = new DictionaryDrawEvent();
+        event.begin();
+        Optional<DictionaryWord> dictionaryWord = drawDictionaryWord(level, category);
+        event.report(level, category, dictionaryWord.isPresent());
+        return dictionaryWord;
+    }
+
+    private Optional<DictionaryWord> drawDictionaryWord(Level level, String category) {
+        Optional<Shard> shard = getShard(level, category);
+        if (shard.isEmpty() || shard.orElseThrow().size() == 0) {
+            return Optional.empty();
+        }
+
+        DictionaryWord[] words = getWords(shard.orElseThrow());
+        if (words.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(words[randomGenerator.nextInt(words.length)]);
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        Optional<Shard> shard = getShard(level, category);
+        if (shard.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(getWords(shard.orElseThrow())));
+    }
+
+    @Override
+    public DictionaryWord getDefaultDictionaryWord() {
+        return getDictionaryWord(getDefaultLevel(), getDefaultCategory()).orElseThrow();
+    }
+
+    /**
+     * Hits are draws from categories already in memory, misses are reads of shards.
+     */
+    public CacheStats stats() {
+        return shard2words.stats();
+    }
+
+    /**
+     * Returns the number of categories whose words are in memory.
+     */
+    public long loadedCategories() {
+        return shard2words.estimatedSize();
+    }
+
+    private Optional<Shard> getShard(Level level, String category) {
+        LevelShards levelShards = level2shards.get(level);
+        if (levelShards == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(levelShards.category2shard().get(category));
+    }
+
+    private DictionaryWord[] getWords(Shard shard) {
+        return shard2words.get(shard, this::readWords);
+    }
+
+    private DictionaryWord[] readWords(Shard shard) {
+        List<DictionaryWord> words = new ArrayList<>(shard.size());
+        Path file = directory.resolve(shard.fileName());
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                int separator = line.indexOf(SEPARATOR);
+                DictionaryWord dictionaryWord = separator < 0
+                    ? new LevelBasedDictionaryWord(line, "")
+                    : new LevelBasedDictionaryWord(line.substring(0, separator), line.substring(separator + 1));
+                words.add(NormalizedWord.normalize(dictionaryWord));
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words.toArray(DictionaryWord[]::new);
+    }
+
+    private record Shard(Level level, int size, String fileName, String category) {
+    }
+
+    /**
+     * Categories of one level in alphabetical order.
+     */
+    private record LevelShards(String[] categories, Set<String> categorySet, Map<String, Shard> category2shard) {
+        static LevelShards of(Map<String, Shard> category2shard) {
+            String[] categories = category2shard.keySet().toArray(String[]::new);
+            return new LevelShards(
+                categories,
+                Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(categories))),
+                new HashMap<>(category2shard)
+            );
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import static backend.academy.game.dictionary.impl.ShardedDictionary.INDEX_FILE;
+import static backend.academy.game.dictionary.impl.ShardedDictionary.SEPARATOR;
+
+/**
+ * Writes any {@link Dictionary} to a directory read by {@link ShardedDictionary}:
+ * {@code index.tsv} with a {@code level, word count, shard file, category} line per category
+ * and a shard file per category with a {@code word, clue} line per word, fields are separated by tabs.
+ * Tabs and line breaks inside words, clues and categories are replaced by spaces.
+ */
+public final class ShardedDictionaryWriter {
+    private static final String SHARD_FORMAT = "shard-%06d.tsv";
+
+    private ShardedDictionaryWriter() {
+
+    }
+
+    public static void write(Dictionary dictionary, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> index = new ArrayList<>();
+        for (Level level : new TreeSet<>(dictionary.getLevels())) {
+            for (String category : new TreeSet<>(dictionary.getCategoriesByLevel(level))) {
+                List<DictionaryWord> words = dictionary.getDictionaryWords(level, category);
+                String fileName = String.format(SHARD_FORMAT, index.size());
+                List<String> lines = new ArrayList<>(words.size());
+                for (DictionaryWord dictionaryWord : words) {
+                    lines.add(clean(dictionaryWord.word()) + SEPARATOR + clean(dictionaryWord.clue()));
+                }
+                Files.write(directory.resolve(fileName), lines, StandardCharsets.UTF_8);
+                index.add(String.join(
+                    String.valueOf(SEPARATOR), level.name(), Integer.toString(words.size()), fileName, clean(category)
+                ));
+            }
+        }
+        Files.write(directory.resolve(INDEX_FILE), index, StandardCharsets.UTF_8);
+    }
+
+    private static String clean(String field) {
+        return field.replace(SEPARATOR, ' ').replace('\r', ' ').replace('\n', ' ');
+    }
+}
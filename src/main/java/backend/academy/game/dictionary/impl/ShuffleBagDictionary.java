@@ -0,0 +1,274 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.events.DictionaryDrawEvent;
+import backend.academy.game.random.RandomGenerators;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+/**
+ * Dictionary that draws without repeats: every category is a shuffle bag that hands out each of its words
+ * once in a random order and then is shuffled again. The first word of a round is never the last word
+ * of the previous one.
+ * <p>
+ * Draws take no lock: a draw takes the next number of an atomic cursor, the number selects a round and
+ * a position in the permuted indexes of the round. The draw that starts a round shuffles the indexes and
+ * publishes them with a compare-and-set. A draw that is late for its round takes the position in the next
+ * round instead, so a word is rarely handed out twice in a round under contention.
+ * <p>
+ * Bags are built from the words of the wrapped dictionary on the first draw, so it must not change once built.
+ */
+public final class ShuffleBagDictionary implements Dictionary {
+    private final Dictionary dictionary;
+    private final RandomGenerator randomGenerator;
+    private final ConcurrentMap<BagKey, ShuffleBag> bags = new ConcurrentHashMap<>();
+
+    private ShuffleBagDictionary(Dictionary dictionary, RandomGenerator randomGenerator) {
+        this.dictionary = dictionary;
+        this.randomGenerator = randomGenerator;
+    }
+
+    public static ShuffleBagDictionary getInstance(Dictionary dictionary) {
+        return getInstance(dictionary, RandomGenerators.threadLocal());
+    }
+
+    /**
+     * The random generator shuffles bags from many threads, so it must be thread-safe.
+     */
+    public static ShuffleBagDictionary getInstance(Dictionary dictionary, RandomGenerator randomGenerator) {
+        return new ShuffleBagDictionary(dictionary, randomGenerator);
+    }
+
+    @Override
+    public Set<Level> getLevels() {
+        return dictionary.getLevels();
+    }
+
+    @Override
+    public Level getDefaultLevel() {
+        return dictionary.getDefaultLevel();
+    }
+
+    @Override
+    public Set<String> getCategoriesByLevel(Level level) {
+        return dictionary.getCategoriesByLevel(level);
+    }
+
+    @Override
+    public Optional<String> getCategoryByLevel(Level level) {
+        return dictionary.getCategoryByLevel(level);
+    }
+
+    @Override
+    public String getDefaultCategory() {
+        return dictionary.getDefaultCategory();
+    }
+
+    @Override
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        DictionaryDrawEvent event = new DictionaryDrawEvent();
+        event.begin();
+        Optional<DictionaryWord> dictionaryWord = getBag(level, category).map(bag -> bag.next(randomGenerator));
+        event.report(level, category, dictionaryWord.isPresent());
+        return dictionaryWord;
+    }
+
+    /**
+     * Draws a word the player has not seen recently and adds it to the history. Words the player has seen
+     * are passed over and stay drawn for their round. Up to two rounds are looked through, which always
+     * contain a whole round; if no word is found, the last drawn word is returned.
+     */
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category, PlayerHistory playerHistory) {
+        DictionaryDrawEvent event = new DictionaryDrawEvent();
+        event.begin();
+        Optional<DictionaryWord> dictionaryWord = drawDictionaryWord(level, category, playerHistory);
+        event.report(level, category, dictionaryWord.isPresent());
+        return dictionaryWord;
+    }
+
+    private Optional<DictionaryWord> drawDictionaryWord(Level level, String category, PlayerHistory playerHistory) {
+        Optional<ShuffleBag> bag = getBag(level, category);
+        if (bag.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ShuffleBag shuffleBag = bag.orElseThrow();
+        DictionaryWord dictionaryWord = shuffleBag.next(randomGenerator);
+        for (int i = 1; i < 2 * shuffleBag.size() - 1 && playerHistory.contains(dictionaryWord); i++) {
+            dictionaryWord = shuffleBag.next(randomGenerator);
+        }
+        playerHistory.add(dictionaryWord);
+        return Optional.of(dictionaryWord);
+    }
+
+    /**
+     * View of the dictionary for one player, every draw goes through the player history.
+     */
+    public Dictionary forPlayer(PlayerHistory playerHistory) {
+        return new PlayerDictionary(this, playerHistory);
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        return dictionary.getDictionaryWords(level, category);
+    }
+
+    @Override
+    public DictionaryWord getDefaultDictionaryWord() {
+        return getDictionaryWord(getDefaultLevel(), getDefaultCategory()).orElseThrow();
+    }
+
+    @Override
+    public Dictionary unwrap() {
+        return dictionary.unwrap();
+    }
+
+    /**
+     * Categories that are not in the dictionary get no bag, so unknown names do not fill the map.
+     */
+    private Optional<ShuffleBag> getBag(Level level, String category) {
+        BagKey bagKey = new BagKey(level, category);
+        ShuffleBag shuffleBag = bags.get(bagKey);
+        if (shuffleBag == null) {
+            if (!dictionary.getCategoriesByLevel(level).contains(category)) {
+                return Optional.empty();
+            }
+            List<DictionaryWord> words = dictionary.getDictionaryWords(level, category);
+            if (words.isEmpty()) {
+                return Optional.empty();
+            }
+            shuffleBag = bags.computeIfAbsent(bagKey, key -> ShuffleBag.of(words, randomGenerator));
+        }
+        return Optional.of(shuffleBag);
+    }
+
+    private record BagKey(Level level, String category) {
+    }
+
+    /**
+     * Indexes of the words in the order of one round.
+     */
+    private record Round(long number, int[] order) {
+    }
+
+    private static final class ShuffleBag {
+        private final DictionaryWord[] words;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicReference<Round> round;
+
+        private ShuffleBag(DictionaryWord[] words, int[] order) {
+            this.words = words;
+            this.round = new AtomicReference<>(new Round(0, order));
+        }
+
+        static ShuffleBag of(List<DictionaryWord> words, RandomGenerator randomGenerator) {
+            int[] order = new int[words.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            shuffle(order, randomGenerator);
+            return new ShuffleBag(words.toArray(DictionaryWord[]::new), order);
+        }
+
+        int size() {
+            return words.length;
+        }
+
+        DictionaryWord next(RandomGenerator randomGenerator) {
+            long draw = cursor.getAndIncrement();
+            long number = draw / words.length;
+            int position = (int) (draw % words.length);
+
+            Round current = round.get();
+            while (current.number() < number) {
+                Round next = new Round(number, nextOrder(current.order(), randomGenerator));
+                current = round.compareAndSet(current, next) ? next : round.get();
+            }
+            return words[current.order()[position]];
+        }
+
+        private static int[] nextOrder(int[] order, RandomGenerator randomGenerator) {
+            int[] next = order.clone();
+            shuffle(next, randomGenerator);
+            int last = order[order.length - 1];
+            if (next.length > 1 && next[0] == last) {
+                int swap = 1 + randomGenerator.nextInt(next.length - 1);
+                next[0] = next[swap];
+                next[swap] = last;
+            }
+            return next;
+        }
+
+        private static void shuffle(int[] order, RandomGenerator randomGenerator) {
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = randomGenerator.nextInt(i + 1);
+                int index = order[i];
+                order[i] = order[j];
+                order[j] = index;
+            }
+        }
+    }
+
+    private static final class PlayerDictionary implements Dictionary {
+        private final ShuffleBagDictionary dictionary;
+        private final PlayerHistory playerHistory;
+
+        private PlayerDictionary(ShuffleBagDictionary dictionary, PlayerHistory playerHistory) {
+            this.dictionary = dictionary;
+            this.playerHistory = playerHistory;
+        }
+
+        @Override
+        public Set<Level> getLevels() {
+            return dictionary.getLevels();
+        }
+
+        @Override
+        public Level getDefaultLevel() {
+            return dictionary.getDefaultLevel();
+        }
+
+        @Override
+        public Set<String> getCategoriesByLevel(Level level) {
+            return dictionary.getCategoriesByLevel(level);
+        }
+
+        @Override
+        public Optional<String> getCategoryByLevel(Level level) {
+            return dictionary.getCategoryByLevel(level);
+        }
+
+        @Override
+        public String getDefaultCategory() {
+            return dictionary.getDefaultCategory();
+        }
+
+        @Override
+        public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+            return dictionary.getDictionaryWord(level, category, playerHistory);
+        }
+
+        @Override
+        public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+            return dictionary.getDictionaryWords(level, category);
+        }
+
+        @Override
+        public DictionaryWord getDefaultDictionaryWord() {
+            return getDictionaryWord(getDefaultLevel(), getDefaultCategory()).orElseThrow();
+        }
+
+        @Override
+        public Dictionary unwrap() {
+            return dictionary.unwrap();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package backend.academy.game.events;
+
+import backend.academy.game.Level;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Begins before a word is drawn, so its duration is the time of the draw.
+ */
+@Name("backend.academy.hangman.DictionaryDraw")
+@Label("Dictionary Draw")
+@Description("A random word has been drawn from a dictionary")
+@Category("Hangman")
+@Enabled(false)
+@StackTrace(false)
+public final class DictionaryDrawEvent extends Event {
+    @Label("Level")
+    private String level;
+
+    @Label("Category")
+    private String category;
+
+    @Label("Found")
+    private boolean isFound;
+
+    public void report(Level level, String category, boolean isFound) {
+        if (shouldCommit()) {
+            this.level = level == null ? null : level.toString();
+            this.category = category;
+            this.isFound = isFound;
+            commit();
+        }
+    }
+}
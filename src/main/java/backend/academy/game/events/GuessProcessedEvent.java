@@ -0,0 +1,31 @@
+package backend.academy.game.events;
+
+import backend.academy.game.session.UpdateInfo;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Begins before a guess is applied, so its duration is the time of applying the guess.
+ */
+@Name("backend.academy.hangman.GuessProcessed")
+@Label("Guess Processed")
+@Description("A guess has been applied to a game")
+@Category("Hangman")
+@Enabled(false)
+@StackTrace(false)
+public final class GuessProcessedEvent extends Event {
+    @Label("Outcome")
+    private String outcome;
+
+    public void report(UpdateInfo updateInfo) {
+        if (shouldCommit()) {
+            this.outcome = updateInfo.name();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package backend.academy.game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("backend.academy.hangman.SessionFinished")
+@Label("Session Finished")
+@Description("A game has been won or lost")
+@Category("Hangman")
+@Enabled(false)
+@StackTrace(false)
+public final class SessionFinishedEvent extends Event {
+    @Label("Victory")
+    private boolean isVictory;
+
+    @Label("Used Attempts")
+    private int numberOfUsedAttempts;
+
+    public void report(boolean isVictory, int numberOfUsedAttempts) {
+        if (shouldCommit()) {
+            this.isVictory = isVictory;
+            this.numberOfUsedAttempts = numberOfUsedAttempts;
+            commit();
+        }
+    }
+}
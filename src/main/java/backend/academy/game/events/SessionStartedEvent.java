@@ -0,0 +1,32 @@
+package backend.academy.game.events;
+
+import backend.academy.game.Level;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("backend.academy.hangman.SessionStarted")
+@Label("Session Started")
+@Description("A game has started with a word of the given level and category")
+@Category("Hangman")
+@Enabled(false)
+@StackTrace(false)
+public final class SessionStartedEvent extends Event {
+    @Label("Level")
+    private String level;
+
+    @Label("Category")
+    private String category;
+
+    public void report(Level level, String category) {
+        if (shouldCommit()) {
+            this.level = level == null ? null : level.toString();
+            this.category = category;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package backend.academy.game.manager;
+
+import backend.academy.game.Level;
+import backend.academy.game.session.SessionState;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Hosts many concurrent games keyed by session id.
+ * Methods taking a session id return an empty result if there is no such session, e.g. it is already closed.
+ */
+public interface SessionManager extends AutoCloseable {
+    OptionalLong create(Level level, String category);
+
+    Optional<SessionState> guess(long sessionId, String symbol);
+
+    /**
+     * Applies a burst of guesses at once, see {@link backend.academy.game.session.Session#updateStates(List)}.
+     */
+    Optional<SessionState> guess(long sessionId, List<String> symbols);
+
+    Optional<SessionState> getState(long sessionId);
+
+    boolean close(long sessionId);
+
+    /**
+     * Closes games nobody has guessed in or read for the idle timeout, and finished games for the finished timeout,
+     * returns the number of closed games.
+     */
+    int closeIdle(Duration idleTimeout, Duration finishedTimeout);
+
+    int size();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,313 @@
+package backend.academy.game.manager.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.manager.SessionManager;
+import backend.academy.game.session.SessionState;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves games of a {@link SessionManager} as a JSON API over HTTP, every exchange runs on its own virtual thread.
+ * <ul>
+ *     <li>{@code GET /levels} - levels of the dictionary;</li>
+ *     <li>{@code GET /levels/{level}/categories} - categories of the level;</li>
+ *     <li>{@code POST /games} with {@code {"level": ..., "category": ...}} - creates a game and responds 201;</li>
+ *     <li>{@code POST /games/{id}/guesses} with {@code {"symbol": ...}} or {@code {"symbols": [...]}} - guesses;</li>
+ *     <li>{@code GET /games/{id}} - the state of the game;</li>
+ *     <li>{@code DELETE /games/{id}} - closes the game.</li>
+ * </ul>
+ * An unknown level, category or game gives 404, a malformed request gives 400 and a failure gives 500.
+ * <p>
+ * Clients may never delete their games, so a background thread closes games idle for the idle timeout
+ * and finished games not read for the finished timeout. The session manager is not closed with the server.
+ * <p>
+ * The JDK server flushes headers before the body, which Nagle's algorithm holds until the headers are acknowledged,
+ * so run it with {@code -Dsun.net.httpserver.nodelay=true}, as {@code Main} does, to save tens of milliseconds
+ * per response.
+ */
+public final class HttpGameServer implements AutoCloseable {
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_FINISHED_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int NO_CONTENT = 204;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+    private static final int NO_BODY = -1;
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String DELETE = "DELETE";
+    private static final String LEVELS = "/levels";
+    private static final String GAMES = "/games";
+    private static final String CATEGORIES = "categories";
+    private static final String GUESSES = "guesses";
+
+    private final Dictionary dictionary;
+    private final SessionManager sessionManager;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+        .name("http-game-sweeper")
+        .daemon()
+        .factory());
+
+    private HttpGameServer(Dictionary dictionary, SessionManager sessionManager, HttpServer server) {
+        this.dictionary = dictionary;
+        this.sessionManager = sessionManager;
+        this.server = server;
+    }
+
+    /**
+     * The dictionary lists levels and categories, it must be the one games of the session manager are drawn from.
+     */
+    public static HttpGameServer start(
+        Dictionary dictionary,
+        SessionManager sessionManager,
+        InetSocketAddress address
+    ) throws IOException {
+        return start(dictionary, sessionManager, address, DEFAULT_IDLE_TIMEOUT, DEFAULT_FINISHED_TIMEOUT);
+    }
+
+    /**
+     * Idle games are looked for twice per the shorter timeout.
+     */
+    public static HttpGameServer start(
+        Dictionary dictionary,
+        SessionManager sessionManager,
+        InetSocketAddress address,
+        Duration idleTimeout,
+        Duration finishedTimeout
+    ) throws IOException {
+        HttpGameServer gameServer = new HttpGameServer(dictionary, sessionManager, HttpServer.create(address, 0));
+        long sweepIntervalNanos = Math.max(Math.min(idleTimeout.toNanos(), finishedTimeout.toNanos()) / 2, 1);
+        gameServer.sweeper.scheduleWithFixedDelay(
+            () -> sessionManager.closeIdle(idleTimeout, finishedTimeout),
+            sweepIntervalNanos,
+            sweepIntervalNanos,
+            TimeUnit.NANOSECONDS
+        );
+        gameServer.server.createContext(LEVELS, exchange -> serve(exchange, gameServer::handleLevels));
+        gameServer.server.createContext(GAMES, exchange -> serve(exchange, gameServer::handleGames));
+        gameServer.server.setExecutor(gameServer.executor);
+        gameServer.server.start();
+        return gameServer;
+    }
+
+    public InetSocketAddress getLocalAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Blocks until the server is closed.
+     */
+    public void awaitClose() throws InterruptedException {
+        closed.await();
+    }
+
+    /**
+     * Exchanges in flight are answered before the server stops.
+     */
+    @Override
+    public void close() {
+        sweeper.close();
+        server.stop(0);
+        executor.close();
+        closed.countDown();
+    }
+
+    /**
+     * A failure is answered with 500 unless the response has been started.
+     */
+    private static void serve(HttpExchange exchange, HttpHandler handler) throws IOException {
+        try (exchange) {
+            try {
+                handler.handle(exchange);
+            } catch (RuntimeException e) {
+                if (exchange.getResponseCode() == NO_BODY) {
+                    respond(exchange, INTERNAL_SERVER_ERROR);
+                }
+            }
+        }
+    }
+
+    private void handleLevels(HttpExchange exchange) throws IOException {
+        List<String> path = path(exchange, LEVELS);
+        if (path.isEmpty()) {
+            respondIfGet(exchange, dictionary.getLevels().stream().sorted().map(Level::toString).toList());
+        } else if (path.size() == 2 && CATEGORIES.equals(path.get(1)) && level(path.getFirst()).isPresent()) {
+            Level level = level(path.getFirst()).orElseThrow();
+            respondIfGet(exchange, dictionary.getCategoriesByLevel(level).stream().sorted().toList());
+        } else {
+            respond(exchange, NOT_FOUND);
+        }
+    }
+
+    private void handleGames(HttpExchange exchange) throws IOException {
+        List<String> path = path(exchange, GAMES);
+        OptionalLong sessionId = path.isEmpty() ? OptionalLong.empty() : sessionId(path.getFirst());
+        if (path.isEmpty()) {
+            createIfPost(exchange);
+        } else if (sessionId.isEmpty() || path.size() > 2 || path.size() == 2 && !GUESSES.equals(path.get(1))) {
+            respond(exchange, NOT_FOUND);
+        } else if (path.size() == 2) {
+            guessIfPost(exchange, sessionId.getAsLong());
+        } else {
+            handleGame(exchange, sessionId.getAsLong());
+        }
+    }
+
+    private void createIfPost(HttpExchange exchange) throws IOException {
+        if (!POST.equals(exchange.getRequestMethod())) {
+            respond(exchange, METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        Optional<NewGame> newGame = read(exchange, NewGame.class)
+            .filter(game -> game.level() != null && game.category() != null);
+        if (newGame.isEmpty()) {
+            respond(exchange, BAD_REQUEST);
+            return;
+        }
+
+        String category = newGame.orElseThrow().category();
+        OptionalLong sessionId = level(newGame.orElseThrow().level())
+            .map(level -> sessionManager.create(level, category))
+            .orElseGet(OptionalLong::empty);
+        if (sessionId.isEmpty()) {
+            respond(exchange, NOT_FOUND);
+        } else {
+            respond(exchange, CREATED, new GameCreated(sessionId.getAsLong()));
+        }
+    }
+
+    private void guessIfPost(HttpExchange exchange, long sessionId) throws IOException {
+        if (!POST.equals(exchange.getRequestMethod())) {
+            respond(exchange, METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        Optional<Guess> guess = read(exchange, Guess.class).filter(Guess::isCorrect);
+        if (guess.isEmpty()) {
+            respond(exchange, BAD_REQUEST);
+            return;
+        }
+
+        Optional<SessionState> sessionState = guess.orElseThrow().symbols() == null
+            ? sessionManager.guess(sessionId, guess.orElseThrow().symbol())
+            : sessionManager.guess(sessionId, guess.orElseThrow().symbols());
+        respond(exchange, sessionId, sessionState);
+    }
+
+    private void handleGame(HttpExchange exchange, long sessionId) throws IOException {
+        switch (exchange.getRequestMethod()) {
+            case GET -> respond(exchange, sessionId, sessionManager.getState(sessionId));
+            case DELETE -> respond(exchange, sessionManager.close(sessionId) ? NO_CONTENT : NOT_FOUND);
+            default -> respond(exchange, METHOD_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * Segments of the path after the context, e.g. {@code ["1", "guesses"]} for {@code /games/1/guesses}.
+     */
+    private static List<String> path(HttpExchange exchange, String context) {
+        String path = exchange.getRequestURI().getPath().substring(context.length());
+        return Arrays.stream(path.split("/"))
+            .filter(segment -> !segment.isEmpty())
+            .toList();
+    }
+
+    private Optional<Level> level(String name) {
+        return dictionary.getLevels().stream()
+            .filter(level -> level.compareToWithIgnoringCase(name))
+            .findFirst();
+    }
+
+    private static OptionalLong sessionId(String segment) {
+        try {
+            return OptionalLong.of(Long.parseLong(segment));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns an empty result if the body is not a JSON object of the type.
+     */
+    private <T> Optional<T> read(HttpExchange exchange, Class<T> type) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return Optional.ofNullable(objectMapper.readValue(body, type));
+        } catch (JacksonException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void respondIfGet(HttpExchange exchange, Object body) throws IOException {
+        if (GET.equals(exchange.getRequestMethod())) {
+            respond(exchange, OK, body);
+        } else {
+            respond(exchange, METHOD_NOT_ALLOWED);
+        }
+    }
+
+    private void respond(HttpExchange exchange, long sessionId, Optional<SessionState> sessionState)
+        throws IOException {
+        if (sessionState.isEmpty()) {
+            respond(exchange, NOT_FOUND);
+        } else {
+            SessionState state = sessionState.orElseThrow();
+            respond(exchange, OK, new GameState(sessionId, state.isFinished(), state.message()));
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, NO_BODY);
+    }
+
+    record NewGame(String level, String category) {
+    }
+
+    record Guess(String symbol, List<String> symbols) {
+        boolean isCorrect() {
+            return symbols == null ? symbol != null : symbols.stream().allMatch(Objects::nonNull);
+        }
+    }
+
+    record GameCreated(long id) {
+    }
+
+    record GameState(long id, boolean finished, String message) {
+    }
+}
@@ -0,0 +1,114 @@
+package backend.academy.game.manager.impl;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.user.UserInteraction;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Interaction of one managed game: guesses come from a queue instead of a console,
+ * and every new state is published for readers instead of being printed.
+ * {@link #run(Session)} serves guesses until the game is closed, even after it is finished.
+ * Guesses and reads of the state are the accesses that keep a game from being idle.
+ */
+final class ManagedUserInteraction implements UserInteraction {
+    private static final Guess CLOSE = new Guess(null, null);
+
+    private final DictionaryWord dictionaryWord;
+    private final BlockingQueue<Guess> guesses = new LinkedBlockingQueue<>();
+    private final Lock lock = new ReentrantLock();
+    private boolean isClosed;
+    private volatile SessionState sessionState;
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    ManagedUserInteraction(DictionaryWord dictionaryWord) {
+        this.dictionaryWord = dictionaryWord;
+    }
+
+    @Override
+    public DictionaryWord getDictionaryWord(Dictionary dictionary) {
+        return dictionaryWord;
+    }
+
+    void start(Session session) {
+        sessionState = session.getSessionState();
+    }
+
+    @Override
+    public void run(Session session) {
+        try {
+            Guess guess = guesses.take();
+            while (guess != CLOSE) {
+                updateState(session, guess);
+                guess = guesses.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void updateState(Session session, Guess guess) {
+        try {
+            SessionState newSessionState = session.updateStates(guess.symbols());
+            sessionState = newSessionState;
+            guess.result().complete(newSessionState);
+        } catch (RuntimeException e) {
+            guess.result().completeExceptionally(e);
+        }
+    }
+
+    Optional<SessionState> guess(String symbol) {
+        return guess(Collections.singletonList(symbol));
+    }
+
+    Optional<SessionState> guess(List<String> symbols) {
+        lastAccessNanos = System.nanoTime();
+        Guess guess = new Guess(symbols, new CompletableFuture<>());
+        if (!offer(guess)) {
+            return Optional.empty();
+        }
+        return Optional.of(guess.result().join());
+    }
+
+    SessionState getSessionState() {
+        lastAccessNanos = System.nanoTime();
+        return sessionState;
+    }
+
+    boolean isIdle(long nowNanos, long idleTimeoutNanos, long finishedTimeoutNanos) {
+        long timeoutNanos = sessionState.isFinished() ? finishedTimeoutNanos : idleTimeoutNanos;
+        return nowNanos - lastAccessNanos >= timeoutNanos;
+    }
+
+    void close() {
+        offer(CLOSE);
+    }
+
+    /**
+     * Guesses are never accepted after {@link #CLOSE}, so every accepted guess is answered before the loop ends.
+     */
+    private boolean offer(Guess guess) {
+        lock.lock();
+        try {
+            if (isClosed) {
+                return false;
+            }
+            isClosed = guess == CLOSE;
+            return guesses.add(guess);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Guess(List<String> symbols, CompletableFuture<SessionState> result) {
+    }
+}
@@ -0,0 +1,229 @@
+package backend.academy.game.manager.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.manager.SessionManager;
+import backend.academy.game.metrics.GameMetrics;
+import backend.academy.game.metrics.impl.MeteredDictionary;
+import backend.academy.game.metrics.impl.MeteredSession;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.impl.GuessJournal;
+import backend.academy.game.session.impl.SessionStateCache;
+import backend.academy.game.session.impl.SimpleWordSession;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Every game runs its interaction loop on its own virtual thread, so a waiting game costs a parked thread only.
+ * All games share one dictionary.
+ * With a {@link GuessJournal} games are recorded, and games in flight before a restart are served again.
+ */
+public final class VirtualThreadSessionManager implements SessionManager {
+    private final Dictionary dictionary;
+    private final SessionStateCache sessionStateCache;
+    private final UnaryOperator<Session> sessionDecorator;
+    private final ExecutorService executor;
+    // Null if games are not recorded.
+    private final GuessJournal journal;
+    private final Map<Long, ManagedUserInteraction> sessionId2interaction = new ConcurrentHashMap<>();
+    private final AtomicLong lastSessionId = new AtomicLong();
+
+    private VirtualThreadSessionManager(
+        Dictionary dictionary,
+        SessionStateCache sessionStateCache,
+        UnaryOperator<Session> sessionDecorator,
+        ExecutorService executor,
+        GuessJournal journal
+    ) {
+        this.dictionary = dictionary;
+        this.sessionStateCache = sessionStateCache;
+        this.sessionDecorator = sessionDecorator;
+        this.executor = executor;
+        this.journal = journal;
+    }
+
+    public static VirtualThreadSessionManager getInstance(Dictionary dictionary) {
+        return getInstance(dictionary, SessionStateCache.disabled());
+    }
+
+    /**
+     * All games share the cache of rendered states.
+     */
+    public static VirtualThreadSessionManager getInstance(Dictionary dictionary, SessionStateCache sessionStateCache) {
+        return new VirtualThreadSessionManager(
+            dictionary,
+            sessionStateCache,
+            UnaryOperator.identity(),
+            Executors.newVirtualThreadPerTaskExecutor(),
+            null
+        );
+    }
+
+    /**
+     * Games are recorded to the journal, which must be opened with the same dictionary.
+     * Games in flight when the journal was opened keep their ids and new games get greater ones.
+     * The journal is not closed with the manager.
+     */
+    public static VirtualThreadSessionManager getInstance(
+        Dictionary dictionary,
+        SessionStateCache sessionStateCache,
+        GuessJournal journal
+    ) {
+        VirtualThreadSessionManager manager = new VirtualThreadSessionManager(
+            dictionary,
+            sessionStateCache,
+            UnaryOperator.identity(),
+            Executors.newVirtualThreadPerTaskExecutor(),
+            journal
+        );
+        manager.lastSessionId.set(journal.lastSessionId());
+        journal.recover(sessionStateCache).forEach((sessionId, recoveredSession) -> manager.start(
+            sessionId,
+            new ManagedUserInteraction(recoveredSession.dictionaryWord()),
+            recoveredSession.session()
+        ));
+        return manager;
+    }
+
+    /**
+     * Games and word draws report to the metrics.
+     */
+    public static VirtualThreadSessionManager getInstance(
+        Dictionary dictionary,
+        SessionStateCache sessionStateCache,
+        GameMetrics gameMetrics
+    ) {
+        return new VirtualThreadSessionManager(
+            MeteredDictionary.getInstance(dictionary, gameMetrics),
+            sessionStateCache,
+            session -> MeteredSession.getInstance(session, gameMetrics),
+            Executors.newVirtualThreadPerTaskExecutor(),
+            null
+        );
+    }
+
+    @Override
+    public OptionalLong create(Level level, String category) {
+        Optional<DictionaryWord> dictionaryWord = dictionary.getDictionaryWord(level, category);
+        if (dictionaryWord.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        long sessionId = lastSessionId.incrementAndGet();
+        ManagedUserInteraction userInteraction = new ManagedUserInteraction(dictionaryWord.orElseThrow());
+        DictionaryWord sessionWord = userInteraction.getDictionaryWord(dictionary);
+        Session session = SimpleWordSession.getInstance(sessionWord, sessionStateCache);
+        start(
+            sessionId,
+            userInteraction,
+            journal == null ? session : journal.attach(sessionId, sessionWord, session)
+        );
+        return OptionalLong.of(sessionId);
+    }
+
+    /**
+     * A game the closed executor rejects is closed again, so it is neither served nor recovered after a restart.
+     */
+    private void start(long sessionId, ManagedUserInteraction userInteraction, Session undecoratedSession) {
+        Session session = sessionDecorator.apply(undecoratedSession);
+        userInteraction.start(session);
+        sessionId2interaction.put(sessionId, userInteraction);
+        try {
+            executor.execute(() -> userInteraction.run(session));
+        } catch (RejectedExecutionException e) {
+            close(sessionId);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<SessionState> guess(long sessionId, String symbol) {
+        ManagedUserInteraction userInteraction = sessionId2interaction.get(sessionId);
+        if (userInteraction == null) {
+            return Optional.empty();
+        }
+
+        return userInteraction.guess(symbol);
+    }
+
+    @Override
+    public Optional<SessionState> guess(long sessionId, List<String> symbols) {
+        ManagedUserInteraction userInteraction = sessionId2interaction.get(sessionId);
+        if (userInteraction == null) {
+            return Optional.empty();
+        }
+
+        return userInteraction.guess(symbols);
+    }
+
+    @Override
+    public Optional<SessionState> getState(long sessionId) {
+        ManagedUserInteraction userInteraction = sessionId2interaction.get(sessionId);
+        if (userInteraction == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(userInteraction.getSessionState());
+    }
+
+    @Override
+    public boolean close(long sessionId) {
+        if (!closeInteraction(sessionId)) {
+            return false;
+        }
+
+        if (journal != null) {
+            journal.recordClosed(sessionId);
+        }
+        return true;
+    }
+
+    private boolean closeInteraction(long sessionId) {
+        ManagedUserInteraction userInteraction = sessionId2interaction.remove(sessionId);
+        if (userInteraction == null) {
+            return false;
+        }
+
+        userInteraction.close();
+        return true;
+    }
+
+    @Override
+    public int closeIdle(Duration idleTimeout, Duration finishedTimeout) {
+        long nowNanos = System.nanoTime();
+        long idleTimeoutNanos = idleTimeout.toNanos();
+        long finishedTimeoutNanos = finishedTimeout.toNanos();
+        int numberOfClosed = 0;
+        for (Map.Entry<Long, ManagedUserInteraction> entry : sessionId2interaction.entrySet()) {
+            if (entry.getValue().isIdle(nowNanos, idleTimeoutNanos, finishedTimeoutNanos) && close(entry.getKey())) {
+                numberOfClosed++;
+            }
+        }
+        return numberOfClosed;
+    }
+
+    @Override
+    public int size() {
+        return sessionId2interaction.size();
+    }
+
+    /**
+     * Games stop without being recorded as closed, so a journal brings them back after a restart.
+     */
+    @Override
+    public void close() {
+        sessionId2interaction.keySet().forEach(this::closeInteraction);
+        executor.close();
+    }
+}
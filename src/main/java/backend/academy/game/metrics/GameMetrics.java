@@ -0,0 +1,20 @@
+package backend.academy.game.metrics;
+
+import backend.academy.game.session.UpdateInfo;
+
+/**
+ * Sink of runtime events of games, cheap enough to be called on every guess.
+ */
+public interface GameMetrics {
+    void recordSessionCreated();
+
+    void recordGuess(UpdateInfo updateInfo);
+
+    void recordUpdateStateLatency(long nanos);
+
+    void recordSessionFinished(boolean isVictory);
+
+    void recordDictionaryWordLatency(long nanos);
+
+    GameMetricsSnapshot snapshot();
+}
@@ -0,0 +1,21 @@
+package backend.academy.game.metrics;
+
+import backend.academy.game.session.UpdateInfo;
+import java.util.Map;
+
+/**
+ * Values of all metrics at some moment, guesses are counted by outcome.
+ */
+public record GameMetricsSnapshot(
+    long sessionsCreated,
+    long sessionsFinished,
+    long victories,
+    long defeats,
+    Map<UpdateInfo, Long> guesses,
+    HistogramSnapshot updateStateLatency,
+    HistogramSnapshot dictionaryWordLatency
+) {
+    public long guesses(UpdateInfo updateInfo) {
+        return guesses.getOrDefault(updateInfo, 0L);
+    }
+}
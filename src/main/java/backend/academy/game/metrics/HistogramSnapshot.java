@@ -0,0 +1,30 @@
+package backend.academy.game.metrics;
+
+/**
+ * Counts of a latency histogram, {@code counts[i]} values are at most {@code upperBounds[i]} nanoseconds
+ * and greater than the previous bound. The last bucket also holds everything above its bound.
+ */
+public record HistogramSnapshot(long[] upperBounds, long[] counts, long count, long sumNanos) {
+    public double meanNanos() {
+        return count == 0 ? 0 : (double) sumNanos / count;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given quantile, e.g. 0.99, or 0 if nothing is recorded.
+     */
+    public long quantileNanos(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(quantile * count);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return upperBounds[i];
+            }
+        }
+        return upperBounds[upperBounds.length - 1];
+    }
+}
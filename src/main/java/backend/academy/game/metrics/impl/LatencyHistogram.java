@@ -0,0 +1,48 @@
+package backend.academy.game.metrics.impl;
+
+import backend.academy.game.metrics.HistogramSnapshot;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with power-of-two buckets from 64 ns up to about 2 s, each bucket is a striped counter,
+ * so recording from many threads neither locks nor allocates.
+ */
+public final class LatencyHistogram {
+    private static final int FIRST_BUCKET_SHIFT = 6;
+    private static final int NUMBER_OF_BUCKETS = 26;
+
+    private final LongAdder[] counts = new LongAdder[NUMBER_OF_BUCKETS];
+    private final LongAdder sumNanos = new LongAdder();
+
+    private LatencyHistogram() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public static LatencyHistogram getInstance() {
+        return new LatencyHistogram();
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 1);
+        int bucket = Long.SIZE - Long.numberOfLeadingZeros(value - 1) - FIRST_BUCKET_SHIFT;
+        counts[Math.clamp(bucket, 0, NUMBER_OF_BUCKETS - 1)].increment();
+        sumNanos.add(value);
+    }
+
+    /**
+     * Buckets are read one by one, so a snapshot taken during recording may be off by the values in flight.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] upperBounds = new long[NUMBER_OF_BUCKETS];
+        long[] snapshotCounts = new long[NUMBER_OF_BUCKETS];
+        long count = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            upperBounds[i] = 1L << (i + FIRST_BUCKET_SHIFT);
+            snapshotCounts[i] = counts[i].sum();
+            count += snapshotCounts[i];
+        }
+        return new HistogramSnapshot(upperBounds, snapshotCounts, count, sumNanos.sum());
+    }
+}
@@ -0,0 +1,80 @@
+package backend.academy.game.metrics.impl;
+
+import backend.academy.game.metrics.GameMetrics;
+import backend.academy.game.metrics.GameMetricsSnapshot;
+import backend.academy.game.session.UpdateInfo;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics on striped counters: threads of different games increment different cells
+ * instead of contending for one atomic, which keeps recording cheap on the hot path.
+ */
+public final class LongAdderGameMetrics implements GameMetrics {
+    private final LongAdder sessionsCreated = new LongAdder();
+    private final LongAdder victories = new LongAdder();
+    private final LongAdder defeats = new LongAdder();
+    private final LongAdder[] guesses = new LongAdder[UpdateInfo.values().length];
+    private final LatencyHistogram updateStateLatency = LatencyHistogram.getInstance();
+    private final LatencyHistogram dictionaryWordLatency = LatencyHistogram.getInstance();
+
+    private LongAdderGameMetrics() {
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = new LongAdder();
+        }
+    }
+
+    public static LongAdderGameMetrics getInstance() {
+        return new LongAdderGameMetrics();
+    }
+
+    @Override
+    public void recordSessionCreated() {
+        sessionsCreated.increment();
+    }
+
+    @Override
+    public void recordGuess(UpdateInfo updateInfo) {
+        guesses[updateInfo.ordinal()].increment();
+    }
+
+    @Override
+    public void recordUpdateStateLatency(long nanos) {
+        updateStateLatency.record(nanos);
+    }
+
+    @Override
+    public void recordSessionFinished(boolean isVictory) {
+        if (isVictory) {
+            victories.increment();
+        } else {
+            defeats.increment();
+        }
+    }
+
+    @Override
+    public void recordDictionaryWordLatency(long nanos) {
+        dictionaryWordLatency.record(nanos);
+    }
+
+    @Override
+    public GameMetricsSnapshot snapshot() {
+        Map<UpdateInfo, Long> guessesByOutcome = new EnumMap<>(UpdateInfo.class);
+        for (UpdateInfo updateInfo : UpdateInfo.values()) {
+            guessesByOutcome.put(updateInfo, guesses[updateInfo.ordinal()].sum());
+        }
+
+        long victoriesSum = victories.sum();
+        long defeatsSum = defeats.sum();
+        return new GameMetricsSnapshot(
+            sessionsCreated.sum(),
+            victoriesSum + defeatsSum,
+            victoriesSum,
+            defeatsSum,
+            guessesByOutcome,
+            updateStateLatency.snapshot(),
+            dictionaryWordLatency.snapshot()
+        );
+    }
+}
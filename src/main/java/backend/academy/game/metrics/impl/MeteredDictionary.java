@@ -0,0 +1,74 @@
+package backend.academy.game.metrics.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.metrics.GameMetrics;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Dictionary that reports the latency of drawing a word.
+ */
+public final class MeteredDictionary implements Dictionary {
+    private final Dictionary dictionary;
+    private final GameMetrics gameMetrics;
+
+    private MeteredDictionary(Dictionary dictionary, GameMetrics gameMetrics) {
+        this.dictionary = dictionary;
+        this.gameMetrics = gameMetrics;
+    }
+
+    public static MeteredDictionary getInstance(Dictionary dictionary, GameMetrics gameMetrics) {
+        return new MeteredDictionary(dictionary, gameMetrics);
+    }
+
+    @Override
+    public Set<Level> getLevels() {
+        return dictionary.getLevels();
+    }
+
+    @Override
+    public Level getDefaultLevel() {
+        return dictionary.getDefaultLevel();
+    }
+
+    @Override
+    public Set<String> getCategoriesByLevel(Level level) {
+        return dictionary.getCategoriesByLevel(level);
+    }
+
+    @Override
+    public Optional<String> getCategoryByLevel(Level level) {
+        return dictionary.getCategoryByLevel(level);
+    }
+
+    @Override
+    public String getDefaultCategory() {
+        return dictionary.getDefaultCategory();
+    }
+
+    @Override
+    public Optional<DictionaryWord> getDictionaryWord(Level level, String category) {
+        long start = System.nanoTime();
+        Optional<DictionaryWord> dictionaryWord = dictionary.getDictionaryWord(level, category);
+        gameMetrics.recordDictionaryWordLatency(System.nanoTime() - start);
+        return dictionaryWord;
+    }
+
+    @Override
+    public List<DictionaryWord> getDictionaryWords(Level level, String category) {
+        return dictionary.getDictionaryWords(level, category);
+    }
+
+    @Override
+    public DictionaryWord getDefaultDictionaryWord() {
+        return dictionary.getDefaultDictionaryWord();
+    }
+
+    @Override
+    public Dictionary unwrap() {
+        return dictionary.unwrap();
+    }
+}
@@ -0,0 +1,92 @@
+package backend.academy.game.metrics.impl;
+
+import backend.academy.game.metrics.GameMetrics;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Session that reports its creation, every guess by outcome, the latency of updates and the end of the game.
+ * A game can only be won by a guessed letter and lost by a missed one,
+ * so the outcome of the guess that finishes the game tells a victory from a defeat.
+ * <p>
+ * A session is played by one thread at a time, so the guess, the outcome and the consumer of outcomes
+ * live in fields and metering adds no allocation to a guess.
+ */
+public final class MeteredSession implements Session {
+    private static final Consumer<UpdateInfo> NO_OUTCOMES = updateInfo -> {
+    };
+
+    private final Session session;
+    private final GameMetrics gameMetrics;
+    private final String[] symbol = new String[1];
+    private final List<String> symbolAsList = Arrays.asList(symbol);
+    private final Consumer<UpdateInfo> recordGuess = this::recordGuess;
+    private Consumer<UpdateInfo> outcomes = NO_OUTCOMES;
+    private UpdateInfo lastUpdateInfo;
+
+    private MeteredSession(Session session, GameMetrics gameMetrics) {
+        this.session = session;
+        this.gameMetrics = gameMetrics;
+    }
+
+    public static MeteredSession getInstance(Session session, GameMetrics gameMetrics) {
+        gameMetrics.recordSessionCreated();
+        return new MeteredSession(session, gameMetrics);
+    }
+
+    @Override
+    public SessionState getSessionState() {
+        return session.getSessionState();
+    }
+
+    @Override
+    public SessionState updateState(String symbol) {
+        this.symbol[0] = symbol;
+        try {
+            return updateStates(symbolAsList, NO_OUTCOMES);
+        } finally {
+            this.symbol[0] = null;
+        }
+    }
+
+    @Override
+    public String pattern() {
+        return session.pattern();
+    }
+
+    @Override
+    public String missedSymbols() {
+        return session.missedSymbols();
+    }
+
+    @Override
+    public SessionState updateStates(List<String> symbols, Consumer<UpdateInfo> outcomes) {
+        this.outcomes = outcomes;
+        SessionState sessionState;
+        UpdateInfo updateInfo;
+        try {
+            long start = System.nanoTime();
+            sessionState = session.updateStates(symbols, recordGuess);
+            gameMetrics.recordUpdateStateLatency(System.nanoTime() - start);
+            updateInfo = lastUpdateInfo;
+        } finally {
+            this.outcomes = NO_OUTCOMES;
+            lastUpdateInfo = null;
+        }
+
+        if (updateInfo != null && sessionState.isFinished()) {
+            gameMetrics.recordSessionFinished(updateInfo == UpdateInfo.GUESSED);
+        }
+        return sessionState;
+    }
+
+    private void recordGuess(UpdateInfo updateInfo) {
+        gameMetrics.recordGuess(updateInfo);
+        lastUpdateInfo = updateInfo;
+        outcomes.accept(updateInfo);
+    }
+}
@@ -0,0 +1,35 @@
+package backend.academy.game.random;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random sources for dictionaries and everything else that draws words:
+ * <ul>
+ *     <li>{@link #secure()} - one shared {@link SecureRandom}, unpredictable but a point of contention;</li>
+ *     <li>{@link #threadLocal()} - every thread draws from its {@link ThreadLocalRandom};</li>
+ *     <li>{@link #seeded(long)} - every thread draws from its own split of a seeded splittable generator,
+ *     so a run is reproducible as long as threads are started in the same order.</li>
+ * </ul>
+ * A split is taken under a lock and kept in a {@link ThreadLocal}, so {@link #seeded(long)} assumes long-lived
+ * threads such as a pool; with a virtual thread per task every task pays for a split.
+ */
+public final class RandomGenerators {
+    private RandomGenerators() {
+
+    }
+
+    public static RandomGenerator secure() {
+        return new SecureRandom();
+    }
+
+    public static RandomGenerator threadLocal() {
+        return new CurrentThreadRandomGenerator();
+    }
+
+    public static RandomGenerator seeded(long seed) {
+        return new ThreadLocalSplittableGenerator(new SplittableRandom(seed));
+    }
+}
@@ -0,0 +1,46 @@
+package backend.academy.game.random;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Every thread draws from its own split of the root generator, taken on the first draw of the thread.
+ * Meant for long-lived threads: a split of every short-lived thread costs a lock and a thread-local entry.
+ */
+final class ThreadLocalSplittableGenerator implements RandomGenerator {
+    private final SplittableGenerator root;
+    private final ThreadLocal<SplittableGenerator> generators = ThreadLocal.withInitial(this::split);
+
+    ThreadLocalSplittableGenerator(SplittableGenerator root) {
+        this.root = root;
+    }
+
+    private synchronized SplittableGenerator split() {
+        return root.split();
+    }
+
+    @Override
+    public long nextLong() {
+        return generators.get().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return generators.get().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return generators.get().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return generators.get().nextInt(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return generators.get().nextDouble();
+    }
+}
@@ -0,0 +1,100 @@
+package backend.academy.game.session;
+
+import java.lang.Character.UnicodeBlock;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+/**
+ * Upper-case letters of the Unicode blocks a word is written in, numbered in ascending order of code points,
+ * e.g. the 26 letters of Basic Latin for an English word. Games keep letter numbers instead of code points,
+ * which are small whatever the code points are.
+ * <p>
+ * The number of a letter is read from a table indexed by the code point minus the first letter,
+ * which only spans the letters of the alphabet. Alphabets are built once per set of blocks and shared.
+ */
+public final class Alphabet {
+    private static final int MAX_TABLE_SPAN = 1 << 16;
+    private static final ConcurrentMap<Set<UnicodeBlock>, Alphabet> ALPHABETS = new ConcurrentHashMap<>();
+
+    private final int[] letters;
+    private final int firstLetter;
+    // The number of a letter plus one, or 0 for a code point that is not a letter of the alphabet.
+    private final char[] indexes;
+
+    private Alphabet(int[] letters) {
+        this.letters = letters;
+        this.firstLetter = letters.length == 0 ? 0 : letters[0];
+        int span = letters.length == 0 ? 0 : letters[letters.length - 1] - firstLetter + 1;
+        if (span <= MAX_TABLE_SPAN) {
+            this.indexes = new char[span];
+            for (int i = 0; i < letters.length; i++) {
+                indexes[letters[i] - firstLetter] = (char) (i + 1);
+            }
+        } else {
+            this.indexes = null;
+        }
+    }
+
+    /**
+     * Alphabet of the letters of the word, which must be upper-case.
+     */
+    public static Alphabet of(String upperCaseWord) {
+        Map<UnicodeBlock, Integer> block2letter = new HashMap<>();
+        upperCaseWord.codePoints()
+            .filter(Character::isLetter)
+            .forEach(letter -> block2letter.putIfAbsent(UnicodeBlock.of(letter), letter));
+        return ALPHABETS.computeIfAbsent(Set.copyOf(block2letter.keySet()), blocks -> ofBlocks(block2letter));
+    }
+
+    private static Alphabet ofBlocks(Map<UnicodeBlock, Integer> block2letter) {
+        int[] letters = block2letter.entrySet().stream()
+            .flatMapToInt(entry -> lettersOf(entry.getKey(), entry.getValue()))
+            .sorted()
+            .toArray();
+        return new Alphabet(letters);
+    }
+
+    /**
+     * A block is a range of code points, so it is found by going both ways from one of its letters.
+     */
+    private static IntStream lettersOf(UnicodeBlock block, int letter) {
+        int first = letter;
+        while (first > Character.MIN_CODE_POINT && UnicodeBlock.of(first - 1) == block) {
+            first--;
+        }
+        int last = letter;
+        while (last < Character.MAX_CODE_POINT && UnicodeBlock.of(last + 1) == block) {
+            last++;
+        }
+        return IntStream.rangeClosed(first, last)
+            .filter(symbol -> Character.isLetter(symbol) && Character.toUpperCase(symbol) == symbol);
+    }
+
+    /**
+     * Returns the number of the letter, or a negative value if it is not a letter of the alphabet.
+     */
+    public int indexOf(int letter) {
+        if (indexes == null) {
+            return Math.max(Arrays.binarySearch(letters, letter), -1);
+        }
+
+        int offset = letter - firstLetter;
+        if (offset < 0 || offset >= indexes.length) {
+            return -1;
+        }
+        return indexes[offset] - 1;
+    }
+
+    public int letterAt(int index) {
+        return letters[index];
+    }
+
+    public int size() {
+        return letters.length;
+    }
+}
@@ -0,0 +1,93 @@
+package backend.academy.game.session;
+
+import java.util.Arrays;
+
+/**
+ * Positions of every distinct letter of a word or phrase, computed once per word.
+ * Positions are counted in code points and letters are numbered in ascending order,
+ * so the number of a letter is a stable index for bitsets.
+ * Anything but a letter, e.g. a space or punctuation, is not guessed and is shown from the start.
+ */
+public final class LetterPositions {
+    public static final char HIDDEN_SYMBOL = '_';
+
+    private final int[] letters;
+    private final int[][] positions;
+    private final int[] hiddenWord;
+    private final int numberOfLetterPositions;
+
+    private LetterPositions(int[] letters, int[][] positions, int[] hiddenWord, int numberOfLetterPositions) {
+        this.letters = letters;
+        this.positions = positions;
+        this.hiddenWord = hiddenWord;
+        this.numberOfLetterPositions = numberOfLetterPositions;
+    }
+
+    public static LetterPositions of(String word) {
+        int[] symbols = word.codePoints().toArray();
+        int[] letters = Arrays.stream(symbols)
+            .filter(Character::isLetter)
+            .sorted()
+            .distinct()
+            .toArray();
+
+        int[] counts = new int[letters.length];
+        int[] hiddenWord = symbols.clone();
+        int numberOfLetterPositions = 0;
+        for (int i = 0; i < symbols.length; i++) {
+            if (Character.isLetter(symbols[i])) {
+                counts[Arrays.binarySearch(letters, symbols[i])]++;
+                hiddenWord[i] = HIDDEN_SYMBOL;
+                numberOfLetterPositions++;
+            }
+        }
+
+        int[][] positions = new int[letters.length][];
+        for (int i = 0; i < letters.length; i++) {
+            positions[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < symbols.length; i++) {
+            if (Character.isLetter(symbols[i])) {
+                int index = Arrays.binarySearch(letters, symbols[i]);
+                positions[index][counts[index]++] = i;
+            }
+        }
+
+        return new LetterPositions(letters, positions, hiddenWord, numberOfLetterPositions);
+    }
+
+    /**
+     * Returns the number of the letter, or a negative value if the word does not contain it.
+     */
+    public int indexOf(int letter) {
+        return Arrays.binarySearch(letters, letter);
+    }
+
+    public int letterAt(int index) {
+        return letters[index];
+    }
+
+    public int[] positionsOf(int index) {
+        return positions[index];
+    }
+
+    public int size() {
+        return letters.length;
+    }
+
+    /**
+     * Code points of the word with {@link #HIDDEN_SYMBOL} in place of letters,
+     * must not be modified.
+     */
+    public int[] hiddenWord() {
+        return hiddenWord;
+    }
+
+    /**
+     * Number of positions taken by letters, which are hidden at the start.
+     */
+    public int numberOfLetterPositions() {
+        return numberOfLetterPositions;
+    }
+}
@@ -0,0 +1,122 @@
+package backend.academy.game.session;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.Objects;
+import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectPhrase;
+import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
+
+/**
+ * Dictionary word or phrase checked and prepared for games once: the upper-case form, positions of its letters
+ * and its {@link Alphabet} are computed when the dictionary is built, so a session of the word
+ * allocates nothing but its own state. It lives in the session API, which dictionaries already depend on,
+ * so dictionaries hand out prepared words without knowing the sessions that play them.
+ * <p>
+ * The word and the clue are the ones of the dictionary, and like any {@link DictionaryWord}
+ * it is equal to another word with the same word and clue.
+ */
+public final class NormalizedWord implements DictionaryWord {
+    private final String word;
+    private final String clue;
+    private final DictionaryWord upperCaseWord;
+    private final LetterPositions letterPositions;
+    private final Alphabet alphabet;
+    private final String letters;
+
+    private NormalizedWord(
+        String word,
+        String clue,
+        DictionaryWord upperCaseWord,
+        LetterPositions letterPositions,
+        Alphabet alphabet
+    ) {
+        this.word = word;
+        this.clue = clue;
+        this.upperCaseWord = upperCaseWord;
+        this.letterPositions = letterPositions;
+        this.alphabet = alphabet;
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < letterPositions.size(); i++) {
+            sb.appendCodePoint(letterPositions.letterAt(i));
+        }
+        this.letters = sb.toString();
+    }
+
+    /**
+     * Returns the word itself if it is already normalized or cannot be played.
+     */
+    public static DictionaryWord normalize(DictionaryWord dictionaryWord) {
+        if (dictionaryWord instanceof NormalizedWord || !isCorrectPhrase(dictionaryWord)) {
+            return dictionaryWord;
+        }
+
+        DictionaryWord upperCaseWord = toUpperCase(dictionaryWord);
+        LetterPositions letterPositions = LetterPositions.of(upperCaseWord.word());
+        Alphabet alphabet = Alphabet.of(upperCaseWord.word());
+        for (int i = 0; i < letterPositions.size(); i++) {
+            if (alphabet.indexOf(letterPositions.letterAt(i)) < 0) {
+                return dictionaryWord;
+            }
+        }
+
+        return new NormalizedWord(
+            dictionaryWord.word(),
+            dictionaryWord.clue(),
+            upperCaseWord,
+            letterPositions,
+            alphabet
+        );
+    }
+
+    @Override
+    public String word() {
+        return word;
+    }
+
+    @Override
+    public String clue() {
+        return clue;
+    }
+
+    public String upperCaseWord() {
+        return upperCaseWord.word();
+    }
+
+    public int length() {
+        return word.length();
+    }
+
+    /**
+     * Returns distinct letters of the upper-case word in ascending order, without spaces and punctuation.
+     */
+    public String letters() {
+        return letters;
+    }
+
+    public DictionaryWord upperCaseDictionaryWord() {
+        return upperCaseWord;
+    }
+
+    public LetterPositions letterPositions() {
+        return letterPositions;
+    }
+
+    public Alphabet alphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DictionaryWord other && word.equals(other.word()) && clue.equals(other.clue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, clue);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NormalizedWord[word=%s, clue=%s]", word, clue);
+    }
+}
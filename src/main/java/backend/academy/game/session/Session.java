@@ -1,7 +1,35 @@
 package backend.academy.game.session;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface Session {
     SessionState getSessionState();
 
     SessionState updateState(String symbol);
+
+    /**
+     * The word as shown in upper case, hidden letters are {@code '_'}, e.g. {@code _A__E___}.
+     */
+    String pattern();
+
+    /**
+     * Missed letters in upper case, in ascending order.
+     */
+    String missedSymbols();
+
+    /**
+     * Applies guesses in order until the game is finished and returns the state after the last applied guess,
+     * which is the same state {@link #updateState(String)} would return for it.
+     */
+    default SessionState updateStates(List<String> symbols) {
+        return updateStates(symbols, updateInfo -> {
+        });
+    }
+
+    /**
+     * Same as {@link #updateStates(List)}, the outcome of every applied guess is passed to the consumer.
+     * Guesses after the end of the game are not applied and are not reported.
+     */
+    SessionState updateStates(List<String> symbols, Consumer<UpdateInfo> outcomes);
 }
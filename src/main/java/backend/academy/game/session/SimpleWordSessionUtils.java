@@ -3,11 +3,18 @@ package backend.academy.game.session;
 import backend.academy.game.dictionary.DictionaryWord;
 import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
 
+/**
+ * Words, phrases and guesses are checked by code points, so letters outside the Basic Multilingual Plane
+ * are single letters as well.
+ */
 public final class SimpleWordSessionUtils {
     private SimpleWordSessionUtils() {
 
     }
 
+    /**
+     * A word is letters only.
+     */
     public static boolean isCorrectWord(DictionaryWord dictionaryWord) {
         String word = dictionaryWord.word();
         String clue = dictionaryWord.clue();
@@ -20,27 +27,68 @@ public final class SimpleWordSessionUtils {
             return false;
         }
 
-        int n = word.length();
-        for (int i = 0; i < n; i++) {
-            if (!Character.isLetter(word.charAt(i))) {
-                return false;
-            }
+        return word.codePoints().allMatch(Character::isLetter);
+    }
+
+    /**
+     * A phrase is letters, spaces and punctuation with at least one letter, e.g. {@code "Don't panic!"}.
+     * Spaces and punctuation are shown from the start, only letters are guessed.
+     */
+    public static boolean isCorrectPhrase(DictionaryWord dictionaryWord) {
+        String word = dictionaryWord.word();
+        String clue = dictionaryWord.clue();
+
+        if (word == null || clue == null) {
+            return false;
         }
 
-        return true;
+        return word.codePoints().anyMatch(Character::isLetter)
+            && word.codePoints().allMatch(symbol -> Character.isLetter(symbol) || isSeparator(symbol));
+    }
+
+    /**
+     * Connector punctuation such as {@code '_'} is not a separator, since it marks hidden letters.
+     */
+    public static boolean isSeparator(int symbol) {
+        return switch (Character.getType(symbol)) {
+            case Character.SPACE_SEPARATOR,
+                 Character.DASH_PUNCTUATION,
+                 Character.START_PUNCTUATION,
+                 Character.END_PUNCTUATION,
+                 Character.INITIAL_QUOTE_PUNCTUATION,
+                 Character.FINAL_QUOTE_PUNCTUATION,
+                 Character.OTHER_PUNCTUATION -> true;
+            default -> false;
+        };
     }
 
     public static char toUpperCase(char symbol) {
         return Character.toUpperCase(symbol);
     }
 
+    public static int toUpperCase(int symbol) {
+        return Character.toUpperCase(symbol);
+    }
+
+    /**
+     * The word is upper-cased letter by letter, the same way as guesses, so its length in letters is kept.
+     */
     public static DictionaryWord toUpperCase(DictionaryWord dictionaryWord) {
         return new LevelBasedDictionaryWord(
-            dictionaryWord.word().toUpperCase(),
+            toUpperCase(dictionaryWord.word()),
             dictionaryWord.clue().toUpperCase()
         );
     }
 
+    /**
+     * Upper-cases letter by letter like {@link #toUpperCase(DictionaryWord)}, e.g. patterns and misses of a game.
+     */
+    public static String toUpperCase(String symbols) {
+        StringBuilder upperCaseSymbols = new StringBuilder(symbols.length());
+        symbols.codePoints().forEach(symbol -> upperCaseSymbols.appendCodePoint(Character.toUpperCase(symbol)));
+        return upperCaseSymbols.toString();
+    }
+
     public static String convert(char[] array) {
         StringBuilder sb = new StringBuilder();
 
@@ -61,7 +109,12 @@ public final class SimpleWordSessionUtils {
         return sb.toString();
     }
 
+    /**
+     * A guess is one letter, which can take two chars.
+     */
     public static boolean isSymbol(String symbol) {
-        return symbol.length() == 1 && Character.isLetter(symbol.charAt(0));
+        return !symbol.isEmpty()
+            && symbol.length() == Character.charCount(symbol.codePointAt(0))
+            && Character.isLetter(symbol.codePointAt(0));
     }
 }
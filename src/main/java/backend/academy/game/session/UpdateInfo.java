@@ -0,0 +1,23 @@
+package backend.academy.game.session;
+
+/**
+ * Outcome of one guess.
+ */
+public enum UpdateInfo {
+    NO_UPDATE(""),
+    INCORRECT_INPUT("Incorrect input."),
+    GUESSED("You guess the letter."),
+    NOT_GUESSED("You doesn't guess the letter."),
+    ALREADY_GUESSED("This letter already guess."),
+    ALREADY_NOT_GUESSED("This letter already doesn't guess.");
+
+    private final String info;
+
+    UpdateInfo(String info) {
+        this.info = info;
+    }
+
+    public String getInfo() {
+        return info;
+    }
+}
@@ -0,0 +1,452 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.Session;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import static backend.academy.game.session.SimpleWordSessionUtils.isSymbol;
+
+/**
+ * Write-ahead journal of games: every creation, guess and close is appended as a fixed-size record
+ * to memory-mapped segment files of a directory:
+ * <pre>
+ * session id  long
+ * word id     index in the word table, for a creation                                (int)
+ * symbol      UTF-16 unit of a guess, a letter of two chars takes two records         (char)
+ * type        creation, guess, close or the last session id                           (byte)
+ * reserved                                                                            (byte)
+ * checksum    of the fields above, written last                                       (int)
+ * reserved                                                                            (int)
+ * </pre>
+ * Appending is a store into mapped memory, so a guess costs no system call, and appended records outlive
+ * a crash of the process. A background thread forces new records to the disk once per force interval,
+ * so one force commits the whole group of records appended in between.
+ * <p>
+ * Opening the journal replays its segments in order. A torn record fails its checksum and is skipped,
+ * finished and closed games are dropped and the rest are handed out by {@link #recover(SessionStateCache)}.
+ * Surviving games are rewritten to a fresh segment and the old segments are deleted, so after a restart
+ * the journal is as long as the games in flight. A crash in between leaves the old segments and a part
+ * of the rewrite, which restates games already known, so its records are matched against them and skipped.
+ * The journal must be opened with the same word table.
+ */
+public final class GuessJournal implements AutoCloseable {
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+    public static final Duration DEFAULT_FORCE_INTERVAL = Duration.ofMillis(10);
+
+    static final long RECORD_SIZE = 24;
+
+    private static final long SESSION_ID_OFFSET = 0;
+    private static final long WORD_ID_OFFSET = 8;
+    private static final long SYMBOL_OFFSET = 12;
+    private static final long TYPE_OFFSET = 14;
+    private static final long CHECKSUM_OFFSET = 16;
+
+    private static final byte CREATED = 1;
+    private static final byte GUESSED = 2;
+    private static final byte CLOSED = 3;
+    private static final byte LAST_SESSION_ID = 4;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+    private static final int TYPE_SHIFT = 48;
+    private static final int SYMBOL_SHIFT = 32;
+
+    private static final String SEGMENT_PREFIX = "guesses-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SEGMENT_FORMAT = SEGMENT_PREFIX + "%08d" + SEGMENT_SUFFIX;
+
+    private final Path directory;
+    private final List<DictionaryWord> words;
+    private final Map<DictionaryWord, Integer> word2id;
+    private final int recordsPerSegment;
+    private final int firstSegmentNumber;
+    private final Arena arena = Arena.ofShared();
+    // Guarded by itself, the current segment is published for appends without the lock.
+    private final List<MemorySegment> segments = new ArrayList<>();
+    private volatile MappedSegment currentSegment;
+    private final AtomicLong nextRecord = new AtomicLong();
+    private final ScheduledExecutorService flusher;
+    private long forcedFrom;
+    private long previousAppended;
+
+    private final long lastSessionId;
+    private Map<Long, ReplayedGame> replayedGames;
+
+    private GuessJournal(
+        Path directory,
+        List<DictionaryWord> words,
+        int recordsPerSegment,
+        int firstSegmentNumber,
+        Replay replay
+    ) {
+        this.directory = directory;
+        this.words = words;
+        this.word2id = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            word2id.putIfAbsent(words.get(i), i);
+        }
+        this.recordsPerSegment = recordsPerSegment;
+        this.firstSegmentNumber = firstSegmentNumber;
+        this.lastSessionId = replay.lastSessionId;
+        this.replayedGames = replay.games;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("guess-journal-flusher")
+            .daemon()
+            .factory());
+    }
+
+    /**
+     * The word table lists all words of the dictionary by sorted level and category.
+     */
+    public static GuessJournal open(Path directory, Dictionary dictionary) throws IOException {
+        return open(directory, WordTable.of(dictionary), DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_FORCE_INTERVAL);
+    }
+
+    public static GuessJournal open(
+        Path directory,
+        List<DictionaryWord> words,
+        int recordsPerSegment,
+        Duration forceInterval
+    ) throws IOException {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("A segment must hold at least one record.");
+        }
+
+        Files.createDirectories(directory);
+        List<Path> oldSegments = listSegments(directory);
+        Replay replay = new Replay();
+        for (Path segment : oldSegments) {
+            replay.read(segment);
+        }
+        replay.dropFinishedGames(words);
+
+        int firstSegmentNumber = oldSegments.isEmpty() ? 0 : segmentNumber(oldSegments.getLast()) + 1;
+        GuessJournal journal = new GuessJournal(
+            directory, List.copyOf(words), recordsPerSegment, firstSegmentNumber, replay
+        );
+        try {
+            journal.rewriteReplayedGames();
+            journal.sync();
+            for (Path segment : oldSegments) {
+                Files.delete(segment);
+            }
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+
+        long intervalNanos = forceInterval.toNanos();
+        journal.flusher.scheduleWithFixedDelay(
+            journal::forceAppended, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS
+        );
+        return journal;
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                .filter(path -> {
+                    String fileName = path.getFileName().toString();
+                    return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static int segmentNumber(Path segment) {
+        String fileName = segment.getFileName().toString();
+        String number = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+        return Integer.parseInt(number);
+    }
+
+    private synchronized void rewriteReplayedGames() {
+        if (lastSessionId > 0) {
+            append(lastSessionId, 0, (char) 0, LAST_SESSION_ID);
+        }
+        replayedGames.forEach((sessionId, game) -> {
+            append(sessionId, game.wordId(), (char) 0, CREATED);
+            for (int i = 0; i < game.symbols().length(); i++) {
+                append(sessionId, 0, game.symbols().charAt(i), GUESSED);
+            }
+        });
+    }
+
+    /**
+     * Records the creation of a game and returns its session, which records every guess before applying it.
+     * Throws {@link IllegalArgumentException} if the word is not in the word table.
+     */
+    public Session attach(long sessionId, DictionaryWord dictionaryWord, Session session) {
+        Integer wordId = word2id.get(dictionaryWord);
+        if (wordId == null) {
+            throw new IllegalArgumentException(String.format("Word %s is not in the word table.", dictionaryWord));
+        }
+
+        append(sessionId, wordId, (char) 0, CREATED);
+        return new JournaledSession(this, sessionId, session);
+    }
+
+    /**
+     * Guesses that cannot change a game, i.e. anything but a single letter, are not recorded.
+     * A torn letter of two chars is replayed as an incorrect input, which does not change the game.
+     */
+    void recordGuess(long sessionId, String symbol) {
+        if (isSymbol(symbol)) {
+            for (int i = 0; i < symbol.length(); i++) {
+                append(sessionId, 0, symbol.charAt(i), GUESSED);
+            }
+        }
+    }
+
+    public void recordClosed(long sessionId) {
+        append(sessionId, 0, (char) 0, CLOSED);
+    }
+
+    /**
+     * Returns the greatest session id ever recorded, so that new games do not reuse ids of old ones.
+     */
+    public long lastSessionId() {
+        return lastSessionId;
+    }
+
+    /**
+     * Returns games in flight when the journal was opened, by session id; their guesses are recorded as usual.
+     * Games are handed out once, later calls return nothing.
+     */
+    public synchronized Map<Long, RecoveredSession> recover(SessionStateCache sessionStateCache) {
+        Map<Long, RecoveredSession> sessionId2session = new LinkedHashMap<>();
+        replayedGames.forEach((sessionId, game) -> {
+            DictionaryWord dictionaryWord = words.get(game.wordId());
+            SimpleWordSession session = game.replay(dictionaryWord, sessionStateCache);
+            sessionId2session.put(
+                sessionId,
+                new RecoveredSession(dictionaryWord, new JournaledSession(this, sessionId, session))
+            );
+        });
+        replayedGames = Collections.emptyMap();
+        return sessionId2session;
+    }
+
+    private void append(long sessionId, int wordId, char symbol, byte type) {
+        long record = nextRecord.getAndIncrement();
+        MemorySegment segment = segment(record);
+        long offset = record % recordsPerSegment * RECORD_SIZE;
+        segment.set(ValueLayout.JAVA_LONG, offset + SESSION_ID_OFFSET, sessionId);
+        segment.set(ValueLayout.JAVA_INT, offset + WORD_ID_OFFSET, wordId);
+        segment.set(ValueLayout.JAVA_CHAR, offset + SYMBOL_OFFSET, symbol);
+        segment.set(ValueLayout.JAVA_BYTE, offset + TYPE_OFFSET, type);
+        // The checksum is stored after the fields, so a record cut by a crash never looks complete.
+        VarHandle.releaseFence();
+        segment.set(ValueLayout.JAVA_INT, offset + CHECKSUM_OFFSET, checksum(sessionId, wordId, symbol, type));
+    }
+
+    private static int checksum(long sessionId, int wordId, char symbol, byte type) {
+        long hash = sessionId * GOLDEN_GAMMA
+            ^ ((long) type << TYPE_SHIFT | (long) symbol << SYMBOL_SHIFT | Integer.toUnsignedLong(wordId));
+        hash = (hash ^ hash >>> SYMBOL_SHIFT) * MIX_MULTIPLIER;
+        return (int) (hash ^ hash >>> SYMBOL_SHIFT);
+    }
+
+    private MemorySegment segment(long record) {
+        int index = (int) (record / recordsPerSegment);
+        MappedSegment current = currentSegment;
+        if (current != null && current.index() == index) {
+            return current.memory();
+        }
+
+        synchronized (segments) {
+            while (segments.size() <= index) {
+                segments.add(map(firstSegmentNumber + segments.size()));
+            }
+            MemorySegment memory = segments.get(index);
+            if (currentSegment == null || currentSegment.index() < index) {
+                currentSegment = new MappedSegment(index, memory);
+            }
+            return memory;
+        }
+    }
+
+    private MemorySegment map(int segmentNumber) {
+        Path path = directory.resolve(String.format(SEGMENT_FORMAT, segmentNumber));
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+        )) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, recordsPerSegment * RECORD_SIZE, arena);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forces segments with records appended since the previous run. Records reserved before a run
+     * may be stored after it, so every range is forced twice.
+     */
+    private void forceAppended() {
+        long appended = nextRecord.get();
+        if (appended == previousAppended && appended == forcedFrom) {
+            return;
+        }
+
+        force(forcedFrom, appended);
+        forcedFrom = previousAppended;
+        previousAppended = appended;
+    }
+
+    private void force(long fromRecord, long toRecord) {
+        int firstIndex = (int) (fromRecord / recordsPerSegment);
+        int lastIndex = (int) (Math.max(fromRecord, toRecord - 1) / recordsPerSegment);
+        List<MemorySegment> dirtySegments;
+        synchronized (segments) {
+            dirtySegments = List.copyOf(segments.subList(
+                Math.min(firstIndex, segments.size()),
+                Math.min(lastIndex + 1, segments.size())
+            ));
+        }
+        dirtySegments.forEach(MemorySegment::force);
+    }
+
+    /**
+     * Forces all appended records to the disk now.
+     */
+    public void sync() {
+        force(0, nextRecord.get());
+    }
+
+    /**
+     * Forces appended records and unmaps segments, games cannot be recorded afterwards.
+     */
+    @Override
+    public void close() {
+        flusher.close();
+        sync();
+        arena.close();
+    }
+
+    /**
+     * A game in flight restored from the journal.
+     */
+    public record RecoveredSession(DictionaryWord dictionaryWord, Session session) {
+    }
+
+    private record MappedSegment(int index, MemorySegment memory) {
+    }
+
+    /**
+     * Symbols of a game read so far. A game created again with the same word is restated by a rewrite,
+     * so its guesses are skipped while they repeat the known symbols.
+     */
+    private static final class ReplayedGame {
+        private static final int NOT_RESTATED = -1;
+
+        private final int wordId;
+        private final StringBuilder symbols = new StringBuilder();
+        private int restatedSymbols = NOT_RESTATED;
+
+        ReplayedGame(int wordId) {
+            this.wordId = wordId;
+        }
+
+        int wordId() {
+            return wordId;
+        }
+
+        CharSequence symbols() {
+            return symbols;
+        }
+
+        void restate() {
+            restatedSymbols = 0;
+        }
+
+        void append(char symbol) {
+            if (restatedSymbols != NOT_RESTATED
+                && restatedSymbols < symbols.length()
+                && symbols.charAt(restatedSymbols) == symbol) {
+                restatedSymbols++;
+                return;
+            }
+
+            restatedSymbols = NOT_RESTATED;
+            symbols.append(symbol);
+        }
+
+        SimpleWordSession replay(DictionaryWord dictionaryWord, SessionStateCache sessionStateCache) {
+            SimpleWordSession session = SimpleWordSession.getInstance(dictionaryWord, sessionStateCache);
+            List<String> guesses = new ArrayList<>(symbols.length());
+            symbols.codePoints().forEach(symbol -> guesses.add(Character.toString(symbol)));
+            session.updateStates(guesses);
+            return session;
+        }
+    }
+
+    /**
+     * Games read from old segments, by session id in the order of creation.
+     */
+    private static final class Replay {
+        private final Map<Long, ReplayedGame> games = new LinkedHashMap<>();
+        private long lastSessionId;
+
+        void read(Path path) throws IOException {
+            try (Arena readArena = Arena.ofConfined();
+                 FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), readArena);
+                for (long offset = 0; offset + RECORD_SIZE <= segment.byteSize(); offset += RECORD_SIZE) {
+                    apply(segment, offset);
+                }
+            }
+        }
+
+        private void apply(MemorySegment segment, long offset) {
+            long sessionId = segment.get(ValueLayout.JAVA_LONG, offset + SESSION_ID_OFFSET);
+            int wordId = segment.get(ValueLayout.JAVA_INT, offset + WORD_ID_OFFSET);
+            char symbol = segment.get(ValueLayout.JAVA_CHAR, offset + SYMBOL_OFFSET);
+            byte type = segment.get(ValueLayout.JAVA_BYTE, offset + TYPE_OFFSET);
+            if (type == 0 || segment.get(ValueLayout.JAVA_INT, offset + CHECKSUM_OFFSET)
+                != checksum(sessionId, wordId, symbol, type)) {
+                return;
+            }
+
+            lastSessionId = Math.max(lastSessionId, sessionId);
+            ReplayedGame game = games.get(sessionId);
+            if (type == CREATED && game != null && game.wordId() == wordId) {
+                game.restate();
+            } else if (type == CREATED) {
+                games.put(sessionId, new ReplayedGame(wordId));
+            } else if (type == GUESSED && game != null) {
+                game.append(symbol);
+            } else if (type == CLOSED) {
+                games.remove(sessionId);
+            }
+        }
+
+        /**
+         * Also drops games of words that are not in the word table.
+         */
+        void dropFinishedGames(List<DictionaryWord> words) {
+            games.values().removeIf(game -> game.wordId() < 0
+                || game.wordId() >= words.size()
+                || game.replay(words.get(game.wordId()), SessionStateCache.disabled()).getSessionState().isFinished());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Records every guess to the {@link GuessJournal} before the session applies it.
+ */
+final class JournaledSession implements Session {
+    private final GuessJournal journal;
+    private final long sessionId;
+    private final Session session;
+
+    JournaledSession(GuessJournal journal, long sessionId, Session session) {
+        this.journal = journal;
+        this.sessionId = sessionId;
+        this.session = session;
+    }
+
+    @Override
+    public SessionState getSessionState() {
+        return session.getSessionState();
+    }
+
+    @Override
+    public SessionState updateState(String symbol) {
+        journal.recordGuess(sessionId, symbol);
+        return session.updateState(symbol);
+    }
+
+    @Override
+    public String pattern() {
+        return session.pattern();
+    }
+
+    @Override
+    public String missedSymbols() {
+        return session.missedSymbols();
+    }
+
+    @Override
+    public SessionState updateStates(List<String> symbols, Consumer<UpdateInfo> outcomes) {
+        for (String symbol : symbols) {
+            journal.recordGuess(sessionId, symbol);
+        }
+        return session.updateStates(symbols, outcomes);
+    }
+}
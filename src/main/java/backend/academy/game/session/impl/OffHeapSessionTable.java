@@ -0,0 +1,303 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.Alphabet;
+import backend.academy.game.session.LetterPositions;
+import backend.academy.game.session.NormalizedWord;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import static backend.academy.game.session.SimpleWordSessionUtils.isSymbol;
+import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
+import static backend.academy.game.session.impl.SimpleWordSessionRenderer.MAX_ATTEMPTS;
+
+/**
+ * Games stored off-heap, one fixed-size struct per game in a single memory segment:
+ * <pre>
+ * guessed letters  bitmask of letter numbers of the word                                  (long)
+ * word id          index in the word table                                               (int)
+ * missed letters   numbers in the {@link Alphabet} of the word, in the order of guesses,
+ *                  at most {@link SimpleWordSessionRenderer#MAX_ATTEMPTS}                 (char each)
+ * attempts         number of used attempts, which is also the number of missed letters   (byte)
+ * status           free, active or finished                                              (byte)
+ * </pre>
+ * Only the word table lives on the heap, so the heap does not grow with the number of games.
+ * Guesses run against the struct and messages are the same as the ones of {@link SimpleWordSession}.
+ * The table is not thread-safe.
+ */
+public final class OffHeapSessionTable implements AutoCloseable {
+    static final long SESSION_SIZE = 32;
+
+    private static final long GUESSED_OFFSET = 0;
+    private static final long WORD_ID_OFFSET = 8;
+    private static final long MISSED_OFFSET = 12;
+    private static final long ATTEMPTS_OFFSET = 24;
+    private static final long STATUS_OFFSET = 25;
+
+    private static final byte FREE = 0;
+    private static final byte ACTIVE = 1;
+    private static final byte FINISHED = 2;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final TableWord[] words;
+    private final SessionStateCache sessionStateCache;
+    private final int[] freeSlots;
+    private int numberOfFreeSlots;
+
+    private OffHeapSessionTable(
+        Arena arena,
+        MemorySegment segment,
+        TableWord[] words,
+        SessionStateCache sessionStateCache,
+        int capacity
+    ) {
+        this.arena = arena;
+        this.segment = segment;
+        this.words = words;
+        this.sessionStateCache = sessionStateCache;
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        this.numberOfFreeSlots = capacity;
+    }
+
+    public static OffHeapSessionTable getInstance(List<DictionaryWord> words, int capacity) {
+        return getInstance(words, capacity, SessionStateCache.disabled());
+    }
+
+    public static OffHeapSessionTable getInstance(
+        List<DictionaryWord> words,
+        int capacity,
+        SessionStateCache sessionStateCache
+    ) {
+        TableWord[] tableWords = new TableWord[words.size()];
+        for (int i = 0; i < tableWords.length; i++) {
+            tableWords[i] = TableWord.of(words.get(i));
+        }
+
+        Arena arena = Arena.ofShared();
+        MemorySegment segment = arena.allocate(capacity * SESSION_SIZE, Long.BYTES);
+        return new OffHeapSessionTable(arena, segment, tableWords, sessionStateCache, capacity);
+    }
+
+    /**
+     * The word table lists all words of the dictionary by sorted level and category.
+     */
+    public static OffHeapSessionTable getInstance(Dictionary dictionary, int capacity) {
+        return getInstance(WordTable.of(dictionary), capacity);
+    }
+
+    public static OffHeapSessionTable getInstance(
+        Dictionary dictionary,
+        int capacity,
+        SessionStateCache sessionStateCache
+    ) {
+        return getInstance(WordTable.of(dictionary), capacity, sessionStateCache);
+    }
+
+    /**
+     * Starts a game and returns its slot, or nothing if the table is full.
+     * Throws {@link IllegalArgumentException} if the word is unknown or cannot be played.
+     */
+    public OptionalInt create(int wordId) {
+        if (wordId < 0 || wordId >= words.length || words[wordId] == null) {
+            throw new IllegalArgumentException(String.format("Word %d cannot be played.", wordId));
+        }
+        if (numberOfFreeSlots == 0) {
+            return OptionalInt.empty();
+        }
+
+        int slot = freeSlots[--numberOfFreeSlots];
+        long base = slot * SESSION_SIZE;
+        segment.asSlice(base, SESSION_SIZE).fill((byte) 0);
+        segment.set(ValueLayout.JAVA_INT, base + WORD_ID_OFFSET, wordId);
+        segment.set(ValueLayout.JAVA_BYTE, base + STATUS_OFFSET, ACTIVE);
+        return OptionalInt.of(slot);
+    }
+
+    public void release(int slot) {
+        long base = sessionOffset(slot);
+        segment.set(ValueLayout.JAVA_BYTE, base + STATUS_OFFSET, FREE);
+        freeSlots[numberOfFreeSlots++] = slot;
+    }
+
+    public SessionState getSessionState(int slot) {
+        return render(sessionOffset(slot), UpdateInfo.NO_UPDATE);
+    }
+
+    public boolean isFinished(int slot) {
+        return segment.get(ValueLayout.JAVA_BYTE, sessionOffset(slot) + STATUS_OFFSET) == FINISHED;
+    }
+
+    /**
+     * Same as {@link SimpleWordSession#updateState(String)}.
+     */
+    public SessionState updateState(int slot, String symbol) {
+        long base = sessionOffset(slot);
+        if (segment.get(ValueLayout.JAVA_BYTE, base + STATUS_OFFSET) == FINISHED) {
+            return render(base, UpdateInfo.NO_UPDATE);
+        }
+        return render(base, apply(base, symbol));
+    }
+
+    /**
+     * Applies a guess without rendering the state, a guess in a finished game is {@link UpdateInfo#NO_UPDATE}.
+     */
+    public UpdateInfo guess(int slot, String symbol) {
+        long base = sessionOffset(slot);
+        if (segment.get(ValueLayout.JAVA_BYTE, base + STATUS_OFFSET) == FINISHED) {
+            return UpdateInfo.NO_UPDATE;
+        }
+        return apply(base, symbol);
+    }
+
+    private long sessionOffset(int slot) {
+        long base = slot * SESSION_SIZE;
+        if (slot < 0 || slot >= freeSlots.length || segment.get(ValueLayout.JAVA_BYTE, base + STATUS_OFFSET) == FREE) {
+            throw new IllegalArgumentException(String.format("There is no game in slot %d.", slot));
+        }
+        return base;
+    }
+
+    private UpdateInfo apply(long base, String symbol) {
+        if (!isSymbol(symbol)) {
+            return UpdateInfo.INCORRECT_INPUT;
+        }
+
+        TableWord word = words[segment.get(ValueLayout.JAVA_INT, base + WORD_ID_OFFSET)];
+        int upperCaseSymbol = toUpperCase(symbol.codePointAt(0));
+        int letterIndex = word.letterPositions().indexOf(upperCaseSymbol);
+        long guessedLetters = segment.get(ValueLayout.JAVA_LONG, base + GUESSED_OFFSET);
+
+        if (letterIndex >= 0 && (guessedLetters & 1L << letterIndex) != 0) {
+            return UpdateInfo.ALREADY_GUESSED;
+        }
+
+        int alphabetIndex = word.alphabet().indexOf(upperCaseSymbol);
+        if (alphabetIndex < 0) {
+            return UpdateInfo.INCORRECT_INPUT;
+        }
+
+        int numberOfUsedAttempts = segment.get(ValueLayout.JAVA_BYTE, base + ATTEMPTS_OFFSET);
+        if (isMissed(base, numberOfUsedAttempts, (char) alphabetIndex)) {
+            return UpdateInfo.ALREADY_NOT_GUESSED;
+        }
+
+        UpdateInfo updateInfo;
+        boolean isFinished;
+        if (letterIndex >= 0) {
+            guessedLetters |= 1L << letterIndex;
+            segment.set(ValueLayout.JAVA_LONG, base + GUESSED_OFFSET, guessedLetters);
+            isFinished = guessedLetters == word.allLetters();
+            updateInfo = UpdateInfo.GUESSED;
+        } else {
+            segment.set(ValueLayout.JAVA_CHAR, missedOffset(base, numberOfUsedAttempts), (char) alphabetIndex);
+            segment.set(ValueLayout.JAVA_BYTE, base + ATTEMPTS_OFFSET, (byte) (numberOfUsedAttempts + 1));
+            isFinished = numberOfUsedAttempts + 1 >= MAX_ATTEMPTS;
+            updateInfo = UpdateInfo.NOT_GUESSED;
+        }
+
+        if (isFinished) {
+            segment.set(ValueLayout.JAVA_BYTE, base + STATUS_OFFSET, FINISHED);
+        }
+        return updateInfo;
+    }
+
+    private boolean isMissed(long base, int numberOfUsedAttempts, char alphabetIndex) {
+        for (int i = 0; i < numberOfUsedAttempts; i++) {
+            if (segment.get(ValueLayout.JAVA_CHAR, missedOffset(base, i)) == alphabetIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long missedOffset(long base, int index) {
+        return base + MISSED_OFFSET + (long) index * Character.BYTES;
+    }
+
+    private SessionState render(long base, UpdateInfo updateInfo) {
+        TableWord word = words[segment.get(ValueLayout.JAVA_INT, base + WORD_ID_OFFSET)];
+        long guessedLetters = segment.get(ValueLayout.JAVA_LONG, base + GUESSED_OFFSET);
+        int numberOfUsedAttempts = segment.get(ValueLayout.JAVA_BYTE, base + ATTEMPTS_OFFSET);
+
+        LetterPositions letterPositions = word.letterPositions();
+        int[] wordAsSymbols = letterPositions.hiddenWord().clone();
+        for (int i = 0; i < letterPositions.size(); i++) {
+            if ((guessedLetters & 1L << i) != 0) {
+                for (int position : letterPositions.positionsOf(i)) {
+                    wordAsSymbols[position] = letterPositions.letterAt(i);
+                }
+            }
+        }
+
+        // Letters are numbered in ascending order, so sorted numbers give sorted letters.
+        int[] missedLetters = new int[numberOfUsedAttempts];
+        for (int i = 0; i < numberOfUsedAttempts; i++) {
+            missedLetters[i] = segment.get(ValueLayout.JAVA_CHAR, missedOffset(base, i));
+        }
+        Arrays.sort(missedLetters);
+        StringBuilder missedSymbols = new StringBuilder();
+        for (int missedLetter : missedLetters) {
+            missedSymbols.appendCodePoint(word.alphabet().letterAt(missedLetter));
+        }
+
+        return sessionStateCache.render(
+            word.upperCaseWord(),
+            new String(wordAsSymbols, 0, wordAsSymbols.length),
+            missedSymbols.toString(),
+            numberOfUsedAttempts,
+            updateInfo
+        );
+    }
+
+    public int size() {
+        return freeSlots.length - numberOfFreeSlots;
+    }
+
+    public int capacity() {
+        return freeSlots.length;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Everything about a word that games need, computed once per word.
+     */
+    private record TableWord(
+        DictionaryWord upperCaseWord,
+        LetterPositions letterPositions,
+        Alphabet alphabet,
+        long allLetters
+    ) {
+        /**
+         * Returns {@code null} if the word cannot be played, including words of more than 64 distinct letters
+         * and alphabets whose letter numbers do not fit a char.
+         */
+        static TableWord of(DictionaryWord dictionaryWord) {
+            if (!(NormalizedWord.normalize(dictionaryWord) instanceof NormalizedWord normalizedWord)) {
+                return null;
+            }
+
+            LetterPositions letterPositions = normalizedWord.letterPositions();
+            Alphabet alphabet = normalizedWord.alphabet();
+            if (letterPositions.size() > Long.SIZE || alphabet.size() > Character.MAX_VALUE + 1) {
+                return null;
+            }
+
+            long allLetters = letterPositions.size() == Long.SIZE ? -1L : (1L << letterPositions.size()) - 1;
+            return new TableWord(normalizedWord.upperCaseDictionaryWord(), letterPositions, alphabet, allLetters);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Bounded cache of rendered game states, which can be shared by any number of games.
+ * A state depends only on the word, the revealed letters, the missed symbols, the used attempts and the outcome
+ * of the last guess, so games of popular words reuse messages instead of formatting them again.
+ */
+public final class SessionStateCache {
+    private static final SessionStateCache DISABLED = new SessionStateCache(null);
+
+    private final Cache<Key, SessionState> cache;
+
+    private SessionStateCache(Cache<Key, SessionState> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Keeps at most {@code maximumSize} states and records hit and miss statistics.
+     */
+    public static SessionStateCache getInstance(long maximumSize) {
+        return new SessionStateCache(Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build());
+    }
+
+    /**
+     * Every state is rendered again.
+     */
+    public static SessionStateCache disabled() {
+        return DISABLED;
+    }
+
+    SessionState render(
+        DictionaryWord targetWord,
+        String word,
+        String missedSymbols,
+        int numberOfUsedAttempts,
+        UpdateInfo updateInfo
+    ) {
+        if (cache == null) {
+            return SimpleWordSessionRenderer.render(targetWord, word, missedSymbols, numberOfUsedAttempts, updateInfo);
+        }
+
+        return cache.get(
+            new Key(targetWord, word, missedSymbols, numberOfUsedAttempts, updateInfo),
+            key -> SimpleWordSessionRenderer.render(
+                key.targetWord(),
+                key.word(),
+                key.missedSymbols(),
+                key.numberOfUsedAttempts(),
+                key.updateInfo()
+            )
+        );
+    }
+
+    /**
+     * Hit rate, evictions and so on, all zeros for the disabled cache.
+     */
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    private record Key(
+        DictionaryWord targetWord,
+        String word,
+        String missedSymbols,
+        int numberOfUsedAttempts,
+        UpdateInfo updateInfo
+    ) {
+    }
+}
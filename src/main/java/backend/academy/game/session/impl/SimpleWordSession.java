@@ -2,59 +2,92 @@ package backend.academy.game.session.impl;
 
 import backend.academy.game.dictionary.DictionaryWord;
 import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.events.GuessProcessedEvent;
+import backend.academy.game.events.SessionFinishedEvent;
+import backend.academy.game.session.Alphabet;
+import backend.academy.game.session.LetterPositions;
+import backend.academy.game.session.NormalizedWord;
 import backend.academy.game.session.Session;
 import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
 import java.util.Arrays;
-import java.util.Set;
-import java.util.TreeSet;
-import static backend.academy.game.session.SimpleWordSessionUtils.convert;
-import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectWord;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
 import static backend.academy.game.session.SimpleWordSessionUtils.isSymbol;
 import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
-
+import static backend.academy.game.session.impl.SimpleWordSessionRenderer.MAX_ATTEMPTS;
+
+/**
+ * Game of a word or a phrase. Guesses and letters are code points, spaces and punctuation of a phrase
+ * are shown from the start. Missed letters are kept as their numbers in the {@link Alphabet} of the word,
+ * at most {@link SimpleWordSessionRenderer#MAX_ATTEMPTS} of them, so a session of a large alphabet is as small
+ * as one of Basic Latin. A letter of another alphabet cannot be in the word and is an incorrect input.
+ */
 public final class SimpleWordSession implements Session {
     private final boolean isCorrectSession;
 
-    private static final int MAX_ATTEMPTS = 6;
-    private final String[] views = new String[] {
-        "  -----\n  |   |\n  |\n  |\n  |\n  |\n  |\n  |\n ---",
-        "  -----\n  |   |\n  |   0\n  |\n  |\n  |\n  |\n  |\n ---",
-        "  -----\n  |   |\n  |   0\n  |   |\n  |   |\n  |\n  |\n  |\n ---",
-        "  -----\n  |   |\n  |   0\n  |  -|\n  |   |\n  |\n  |\n  |\n ---",
-        "  -----\n  |   |\n  |   0\n  |  -|-\n  |   |\n  |\n  |\n  |\n ---",
-        "  -----\n  |   |\n  |   0\n  |  -|-\n  |   |\n  |  /\n  |\n  |\n ---",
-        "  -----\n  |   |\n  |   0\n  |  -|-\n  |   |\n  |  / \\\n  |\n  |\n ---"
-    };
+    private static final String CORRUPTED_SNAPSHOT = "Corrupted session snapshot.";
     private int numberOfUsedAttempts;
 
+    private final SessionStateCache sessionStateCache;
     private final DictionaryWord targetWord;
-    private final char[] wordAsSymbols;
-
-    private final Set<Character> correctSymbols = new TreeSet<>();
-    private final Set<Character> incorrectSymbols = new TreeSet<>();
-
-    private final SessionState incorrectSessionState = new SimpleWordSessionState(
+    private final LetterPositions letterPositions;
+    private final Alphabet alphabet;
+    // Code points of the word as shown, allocated by the first render or reveal,
+    // so a new session costs only its guessed and missed letters.
+    private int[] wordAsSymbols;
+    private int numberOfHiddenSymbols;
+
+    // Indexed by the number of the letter in letterPositions.
+    private final BitSet correctLetters;
+    // Numbers of the missed letters in the alphabet, the first numberOfUsedAttempts of them in ascending order,
+    // which is the order of code points.
+    private final int[] incorrectLetters = new int[MAX_ATTEMPTS];
+
+    private static final DictionaryWord INCORRECT_WORD = new LevelBasedDictionaryWord("", "");
+    private static final LetterPositions NO_LETTER_POSITIONS = LetterPositions.of("");
+    private static final Alphabet NO_ALPHABET = Alphabet.of("");
+    private static final SessionState INCORRECT_SESSION_STATE = new SimpleWordSessionState(
         true,
         "Incorrect session!"
     );
 
-    private SimpleWordSession(boolean isCorrectSession, DictionaryWord targetWord, char[] wordAsSymbols) {
+    private SimpleWordSession(
+        boolean isCorrectSession,
+        SessionStateCache sessionStateCache,
+        DictionaryWord targetWord,
+        LetterPositions letterPositions,
+        Alphabet alphabet
+    ) {
         this.isCorrectSession = isCorrectSession;
+        this.sessionStateCache = sessionStateCache;
         this.targetWord = targetWord;
-        this.wordAsSymbols = wordAsSymbols;
+        this.letterPositions = letterPositions;
+        this.alphabet = alphabet;
+        this.numberOfHiddenSymbols = letterPositions.numberOfLetterPositions();
+        this.correctLetters = new BitSet(letterPositions.size());
     }
 
     public static SimpleWordSession getInstance(DictionaryWord dictionaryWord) {
-        if (!isCorrectWord(dictionaryWord)) {
-            return new SimpleWordSession(false, new LevelBasedDictionaryWord("", ""), new char[0]);
-        }
-
-        DictionaryWord upperCaseDictionaryWord = toUpperCase(dictionaryWord);
+        return getInstance(dictionaryWord, SessionStateCache.disabled());
+    }
 
-        char[] curWord = new char[dictionaryWord.word().length()];
-        Arrays.fill(curWord, '_');
+    /**
+     * A {@link NormalizedWord} is used as is, any other word is checked and normalized first.
+     */
+    public static SimpleWordSession getInstance(DictionaryWord dictionaryWord, SessionStateCache sessionStateCache) {
+        if (!(NormalizedWord.normalize(dictionaryWord) instanceof NormalizedWord normalizedWord)) {
+            return new SimpleWordSession(false, sessionStateCache, INCORRECT_WORD, NO_LETTER_POSITIONS, NO_ALPHABET);
+        }
 
-        return new SimpleWordSession(true, upperCaseDictionaryWord, curWord);
+        return new SimpleWordSession(
+            true,
+            sessionStateCache,
+            normalizedWord.upperCaseDictionaryWord(),
+            normalizedWord.letterPositions(),
+            normalizedWord.alphabet()
+        );
     }
 
     @Override
@@ -62,150 +95,211 @@ public final class SimpleWordSession implements Session {
         if (isCorrectSession) {
             return getSessionStateForCorrectSession(UpdateInfo.NO_UPDATE);
         } else {
-            return incorrectSessionState;
+            return INCORRECT_SESSION_STATE;
         }
     }
 
     private SessionState getSessionStateForCorrectSession(UpdateInfo updateInfo) {
-        String wordAsString = convert(wordAsSymbols);
-        boolean isFinished = isFinished(wordAsString);
-        return new SimpleWordSessionState(
-            isFinished,
-            generateMessage(isFinished, updateInfo, wordAsString)
+        return sessionStateCache.render(
+            targetWord,
+            pattern(),
+            missedSymbols(),
+            numberOfUsedAttempts,
+            updateInfo
         );
     }
 
-    private boolean isFinished(String word) {
-        return !hasAttempts() || isGuessed(word);
+    private boolean isFinished() {
+        return !hasAttempts() || isGuessed();
     }
 
     private boolean hasAttempts() {
         return numberOfUsedAttempts < MAX_ATTEMPTS;
     }
 
-    private boolean isGuessed(String word) {
-        return targetWord.word().equalsIgnoreCase(word);
+    private boolean isGuessed() {
+        return numberOfHiddenSymbols == 0;
     }
 
-    private String generateMessage(boolean isFinished, UpdateInfo updateInfo, String word) {
-        StringBuilder message = new StringBuilder();
-        message.append(generateBaseMessage(updateInfo, word));
-        if (isFinished) {
-            message.append('\n');
-            message.append(isGuessed(word) ? "Victory!" : generateDefeatMessage());
-        }
-        return message.toString();
-    }
-
-    private String generateBaseMessage(UpdateInfo updateInfo, String word) {
-        return generateAttemptsMessage()
-            + generateViewMessage()
-            + generateUpdateInfoMessage(updateInfo)
-            + generateClueMessage()
-            + generateSymbolsMessage(word);
+    @Override
+    public String pattern() {
+        int[] symbols = wordAsSymbols();
+        return new String(symbols, 0, symbols.length);
     }
 
-    private String generateAttemptsMessage() {
-        return String.format(
-            "Maximum attempts: %d.%nNumber of used attempts: %d.%n", MAX_ATTEMPTS, numberOfUsedAttempts
-        );
+    @Override
+    public String missedSymbols() {
+        StringBuilder sb = new StringBuilder();
+        for (int alphabetIndex : missedLetters()) {
+            sb.appendCodePoint(alphabet.letterAt(alphabetIndex));
+        }
+        return sb.toString();
     }
 
-    private String generateViewMessage() {
-        return generateNameWithNewLine(views[numberOfUsedAttempts]);
-    }
+    @Override
+    public SessionState updateState(String symbol) {
+        if (canUpdate()) {
+            return getSessionStateForCorrectSession(apply(symbol));
+        }
 
-    private String generateUpdateInfoMessage(UpdateInfo updateInfo) {
-        return updateInfo == UpdateInfo.NO_UPDATE ? "" : generateNameWithNewLine(updateInfo.getInfo());
+        return getSessionState();
     }
 
-    private String generateNameWithNewLine(String message) {
-        return String.format("%s%n", message);
-    }
+    /**
+     * Only the state after the last applied guess is rendered.
+     */
+    @Override
+    public SessionState updateStates(List<String> symbols, Consumer<UpdateInfo> outcomes) {
+        UpdateInfo updateInfo = null;
+        for (String symbol : symbols) {
+            if (!canUpdate()) {
+                break;
+            }
+            updateInfo = apply(symbol);
+            outcomes.accept(updateInfo);
+        }
 
-    private String generateClueMessage() {
-        if (numberOfUsedAttempts >= MAX_ATTEMPTS / 2 && targetWord.clue() != null && !targetWord.clue().isBlank()) {
-            return String.format("Clue: %s%n", targetWord.clue());
-        } else {
-            return "";
+        if (updateInfo == null) {
+            return getSessionState();
         }
+        return getSessionStateForCorrectSession(updateInfo);
     }
 
-    private String generateSymbolsMessage(String word) {
-        return String.format("%s%n%s", word, convert(incorrectSymbols));
+    private boolean canUpdate() {
+        return isCorrectSession && !isFinished();
     }
 
-    private String generateDefeatMessage() {
-        return String.format("Target word: %s.%nDefeat!", targetWord.word());
-    }
+    private UpdateInfo apply(String symbol) {
+        GuessProcessedEvent event = new GuessProcessedEvent();
+        event.begin();
+        UpdateInfo updateInfo = applyGuess(symbol);
+        event.report(updateInfo);
 
-    @Override
-    public SessionState updateState(String symbol) {
-        if (canUpdate()) {
-            return updateStateIfCan(symbol);
+        if (isFinished()) {
+            new SessionFinishedEvent().report(isGuessed(), numberOfUsedAttempts);
         }
-
-        return getSessionState();
-    }
-
-    private boolean canUpdate() {
-        return isCorrectSession && !isFinished(convert(wordAsSymbols));
+        return updateInfo;
     }
 
-    private SessionState updateStateIfCan(String symbol) {
+    private UpdateInfo applyGuess(String symbol) {
         if (!isSymbol(symbol)) {
-            return getSessionStateForCorrectSession(UpdateInfo.INCORRECT_INPUT);
+            return UpdateInfo.INCORRECT_INPUT;
         }
 
-        char upperCaseSymbol = toUpperCase(symbol.charAt(0));
+        int upperCaseSymbol = toUpperCase(symbol.codePointAt(0));
+        int letterIndex = letterPositions.indexOf(upperCaseSymbol);
 
-        if (correctSymbols.contains(upperCaseSymbol)) {
-            return getSessionStateForCorrectSession(UpdateInfo.ALREADY_GUESSED);
+        if (letterIndex >= 0 && correctLetters.get(letterIndex)) {
+            return UpdateInfo.ALREADY_GUESSED;
         }
 
-        if (incorrectSymbols.contains(upperCaseSymbol)) {
-            return getSessionStateForCorrectSession(UpdateInfo.ALREADY_NOT_GUESSED);
+        int alphabetIndex = alphabet.indexOf(upperCaseSymbol);
+        if (alphabetIndex < 0) {
+            return UpdateInfo.INCORRECT_INPUT;
         }
 
-        boolean isCorrectSymbol = false;
-
-        int n = targetWord.word().length();
-        for (int i = 0; i < n; i++) {
-            if (upperCaseSymbol == targetWord.word().charAt(i)) {
-                wordAsSymbols[i] = upperCaseSymbol;
-                isCorrectSymbol = true;
-            }
+        if (isIncorrectLetter(alphabetIndex)) {
+            return UpdateInfo.ALREADY_NOT_GUESSED;
         }
 
         UpdateInfo updateInfo;
-        if (isCorrectSymbol) {
-            correctSymbols.add(upperCaseSymbol);
+        if (letterIndex >= 0) {
+            reveal(letterIndex, upperCaseSymbol);
             updateInfo = UpdateInfo.GUESSED;
         } else {
-            incorrectSymbols.add(upperCaseSymbol);
-            numberOfUsedAttempts++;
+            miss(alphabetIndex);
             updateInfo = UpdateInfo.NOT_GUESSED;
         }
 
-        return getSessionStateForCorrectSession(updateInfo);
+        return updateInfo;
+    }
+
+    private boolean isIncorrectLetter(int alphabetIndex) {
+        for (int i = 0; i < numberOfUsedAttempts; i++) {
+            if (incorrectLetters[i] == alphabetIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void miss(int alphabetIndex) {
+        int i = numberOfUsedAttempts;
+        while (i > 0 && incorrectLetters[i - 1] > alphabetIndex) {
+            incorrectLetters[i] = incorrectLetters[i - 1];
+            i--;
+        }
+        incorrectLetters[i] = alphabetIndex;
+        numberOfUsedAttempts++;
+    }
+
+    boolean isCorrectSession() {
+        return isCorrectSession;
+    }
+
+    DictionaryWord targetWord() {
+        return targetWord;
+    }
+
+    /**
+     * Numbers of guessed letters as in {@link LetterPositions}, must not be modified.
+     */
+    BitSet guessedLetters() {
+        return correctLetters;
+    }
+
+    /**
+     * Numbers of missed letters in the {@link Alphabet} of the word, in ascending order.
+     */
+    int[] missedLetters() {
+        return Arrays.copyOf(incorrectLetters, numberOfUsedAttempts);
+    }
+
+    Alphabet alphabet() {
+        return alphabet;
     }
 
-    private enum UpdateInfo {
-        NO_UPDATE(""),
-        INCORRECT_INPUT("Incorrect input."),
-        GUESSED("You guess the letter."),
-        NOT_GUESSED("You doesn't guess the letter."),
-        ALREADY_GUESSED("This letter already guess."),
-        ALREADY_NOT_GUESSED("This letter already doesn't guess.");
+    /**
+     * Replays guesses of a fresh session restored by {@link SimpleWordSessionCodec}, nothing is rendered.
+     */
+    void restore(BitSet guessedLetters, int[] missedLetters) {
+        if (!isCorrectSession
+            || guessedLetters.length() > letterPositions.size()
+            || missedLetters.length > MAX_ATTEMPTS) {
+            throw new IllegalArgumentException(CORRUPTED_SNAPSHOT);
+        }
+
+        int letterIndex = guessedLetters.nextSetBit(0);
+        while (letterIndex >= 0) {
+            reveal(letterIndex, letterPositions.letterAt(letterIndex));
+            letterIndex = guessedLetters.nextSetBit(letterIndex + 1);
+        }
 
-        private final String info;
+        for (int alphabetIndex : missedLetters) {
+            if (alphabetIndex < 0
+                || alphabetIndex >= alphabet.size()
+                || letterPositions.indexOf(alphabet.letterAt(alphabetIndex)) >= 0
+                || isIncorrectLetter(alphabetIndex)) {
+                throw new IllegalArgumentException(CORRUPTED_SNAPSHOT);
+            }
+            miss(alphabetIndex);
+        }
+    }
 
-        UpdateInfo(String info) {
-            this.info = info;
+    private int[] wordAsSymbols() {
+        if (wordAsSymbols == null) {
+            wordAsSymbols = letterPositions.hiddenWord().clone();
         }
+        return wordAsSymbols;
+    }
 
-        public String getInfo() {
-            return info;
+    private void reveal(int letterIndex, int upperCaseSymbol) {
+        int[] symbols = wordAsSymbols();
+        int[] positions = letterPositions.positionsOf(letterIndex);
+        for (int position : positions) {
+            symbols[position] = upperCaseSymbol;
         }
+        numberOfHiddenSymbols -= positions.length;
+        correctLetters.set(letterIndex);
     }
 }
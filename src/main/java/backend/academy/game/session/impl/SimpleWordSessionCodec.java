@@ -0,0 +1,171 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static backend.academy.game.session.SimpleWordSessionUtils.isCorrectPhrase;
+import static backend.academy.game.session.SimpleWordSessionUtils.toUpperCase;
+
+/**
+ * Compact binary snapshot of a {@link SimpleWordSession}:
+ * <pre>
+ * version         byte
+ * kind            byte: incorrect session, word reference or inline word; nothing follows for an incorrect session
+ * word            index in the word table (int), or word and clue as (unsigned short length, UTF-8 bytes)
+ * guessed letters byte count and bytes of the bitset of letter numbers, letters are numbered in ascending order
+ * missed letters  count (byte), which is also the number of used attempts, and the numbers of the letters
+ *                 in the alphabet of the word (char each)
+ * </pre>
+ * A session of a word from the word table takes a few dozen bytes at most.
+ * Words outside the table are written inline, so any session can be encoded.
+ * A reference is only meaningful to a codec with the same word table.
+ * Snapshots of version 1, which wrote missed symbols themselves as chars, are still decoded,
+ * unless a missed symbol is outside the alphabet of the word: such a miss used an attempt that
+ * version 2 cannot express, so the snapshot is rejected.
+ */
+public final class SimpleWordSessionCodec {
+    public static final byte VERSION = 2;
+
+    private static final byte CHAR_SYMBOLS_VERSION = 1;
+
+    private static final byte INCORRECT_SESSION = 0;
+    private static final byte WORD_REFERENCE = 1;
+    private static final byte INLINE_WORD = 2;
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    private final List<DictionaryWord> words;
+    private final Map<DictionaryWord, Integer> upperCaseWord2index;
+
+    private SimpleWordSessionCodec(List<DictionaryWord> words) {
+        this.words = words;
+        this.upperCaseWord2index = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            if (isCorrectPhrase(words.get(i))) {
+                upperCaseWord2index.putIfAbsent(toUpperCase(words.get(i)), i);
+            }
+        }
+    }
+
+    /**
+     * Every word is written inline.
+     */
+    public static SimpleWordSessionCodec getInstance() {
+        return new SimpleWordSessionCodec(Collections.emptyList());
+    }
+
+    public static SimpleWordSessionCodec getInstance(List<DictionaryWord> words) {
+        return new SimpleWordSessionCodec(List.copyOf(words));
+    }
+
+    /**
+     * The word table lists all words of the dictionary by sorted level and category.
+     */
+    public static SimpleWordSessionCodec getInstance(Dictionary dictionary) {
+        return getInstance(WordTable.of(dictionary));
+    }
+
+    public void encode(SimpleWordSession session, ByteBuffer buffer) {
+        buffer.put(VERSION);
+        if (!session.isCorrectSession()) {
+            buffer.put(INCORRECT_SESSION);
+            return;
+        }
+
+        DictionaryWord targetWord = session.targetWord();
+        Integer index = upperCaseWord2index.get(targetWord);
+        if (index != null) {
+            buffer.put(WORD_REFERENCE);
+            buffer.putInt(index);
+        } else {
+            buffer.put(INLINE_WORD);
+            putString(buffer, targetWord.word());
+            putString(buffer, targetWord.clue());
+        }
+
+        byte[] guessedLetters = session.guessedLetters().toByteArray();
+        buffer.put((byte) guessedLetters.length);
+        buffer.put(guessedLetters);
+
+        int[] missedLetters = session.missedLetters();
+        buffer.put((byte) missedLetters.length);
+        for (int missedLetter : missedLetters) {
+            buffer.putChar((char) missedLetter);
+        }
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} if the snapshot is of another version or does not fit the word,
+     * and {@link java.nio.BufferUnderflowException} if it is truncated.
+     */
+    public SimpleWordSession decode(ByteBuffer buffer) {
+        byte version = buffer.get();
+        if (version != VERSION && version != CHAR_SYMBOLS_VERSION) {
+            throw new IllegalArgumentException(String.format("Unsupported session snapshot version %d.", version));
+        }
+
+        byte kind = buffer.get();
+        if (kind == INCORRECT_SESSION) {
+            return SimpleWordSession.getInstance(new LevelBasedDictionaryWord(null, null));
+        }
+
+        DictionaryWord dictionaryWord = switch (kind) {
+            case WORD_REFERENCE -> getWord(buffer.getInt());
+            case INLINE_WORD -> new LevelBasedDictionaryWord(getString(buffer), getString(buffer));
+            default -> throw new IllegalArgumentException(String.format("Unknown session snapshot kind %d.", kind));
+        };
+
+        byte[] guessedLetters = new byte[Byte.toUnsignedInt(buffer.get())];
+        buffer.get(guessedLetters);
+
+        SimpleWordSession session = SimpleWordSession.getInstance(dictionaryWord);
+        int[] missedLetters = new int[Byte.toUnsignedInt(buffer.get())];
+        for (int i = 0; i < missedLetters.length; i++) {
+            char missedLetter = buffer.getChar();
+            missedLetters[i] = version == CHAR_SYMBOLS_VERSION
+                ? alphabetIndexOf(session, missedLetter)
+                : missedLetter;
+        }
+
+        session.restore(BitSet.valueOf(guessedLetters), missedLetters);
+        return session;
+    }
+
+    private static int alphabetIndexOf(SimpleWordSession session, char missedSymbol) {
+        int alphabetIndex = session.alphabet().indexOf(missedSymbol);
+        if (alphabetIndex < 0) {
+            throw new IllegalArgumentException(String.format(
+                "Missed symbol '%c' of a version 1 snapshot is outside the alphabet of the word.", missedSymbol
+            ));
+        }
+        return alphabetIndex;
+    }
+
+    private DictionaryWord getWord(int index) {
+        if (index < 0 || index >= words.size()) {
+            throw new IllegalArgumentException(String.format("Unknown word reference %d.", index));
+        }
+        return words.get(index);
+    }
+
+    private static void putString(ByteBuffer buffer, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException(String.format("%d bytes are too many for a snapshot.", bytes.length));
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,84 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.LetterPositions;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
+
+/**
+ * Rules and messages of the game, shared by every representation of a game state.
+ */
+final class SimpleWordSessionRenderer {
+    static final int MAX_ATTEMPTS = 6;
+    static final char HIDDEN_SYMBOL = LetterPositions.HIDDEN_SYMBOL;
+
+    private static final String[] VIEWS = new String[] {
+        "  -----\n  |   |\n  |\n  |\n  |\n  |\n  |\n  |\n ---",
+        "  -----\n  |   |\n  |   0\n  |\n  |\n  |\n  |\n  |\n ---",
+        "  -----\n  |   |\n  |   0\n  |   |\n  |   |\n  |\n  |\n  |\n ---",
+        "  -----\n  |   |\n  |   0\n  |  -|\n  |   |\n  |\n  |\n  |\n ---",
+        "  -----\n  |   |\n  |   0\n  |  -|-\n  |   |\n  |\n  |\n  |\n ---",
+        "  -----\n  |   |\n  |   0\n  |  -|-\n  |   |\n  |  /\n  |\n  |\n ---",
+        "  -----\n  |   |\n  |   0\n  |  -|-\n  |   |\n  |  / \\\n  |\n  |\n ---"
+    };
+
+    private SimpleWordSessionRenderer() {
+
+    }
+
+    /**
+     * @param targetWord           upper-case word and clue
+     * @param word                 the word with {@link #HIDDEN_SYMBOL} in place of letters that are not guessed
+     * @param missedSymbols        missed symbols in ascending order
+     * @param numberOfUsedAttempts number of used attempts
+     * @param updateInfo           outcome of the last guess
+     */
+    static SessionState render(
+        DictionaryWord targetWord,
+        String word,
+        String missedSymbols,
+        int numberOfUsedAttempts,
+        UpdateInfo updateInfo
+    ) {
+        boolean isGuessed = word.indexOf(HIDDEN_SYMBOL) < 0;
+        boolean isFinished = isGuessed || numberOfUsedAttempts >= MAX_ATTEMPTS;
+
+        StringBuilder message = new StringBuilder();
+        message.append(generateAttemptsMessage(numberOfUsedAttempts))
+            .append(generateNameWithNewLine(VIEWS[numberOfUsedAttempts]))
+            .append(generateUpdateInfoMessage(updateInfo))
+            .append(generateClueMessage(targetWord, numberOfUsedAttempts))
+            .append(String.format("%s%n%s", word, missedSymbols));
+        if (isFinished) {
+            message.append('\n');
+            message.append(isGuessed ? "Victory!" : generateDefeatMessage(targetWord));
+        }
+        return new SimpleWordSessionState(isFinished, message.toString());
+    }
+
+    private static String generateAttemptsMessage(int numberOfUsedAttempts) {
+        return String.format(
+            "Maximum attempts: %d.%nNumber of used attempts: %d.%n", MAX_ATTEMPTS, numberOfUsedAttempts
+        );
+    }
+
+    private static String generateUpdateInfoMessage(UpdateInfo updateInfo) {
+        return updateInfo == UpdateInfo.NO_UPDATE ? "" : generateNameWithNewLine(updateInfo.getInfo());
+    }
+
+    private static String generateNameWithNewLine(String message) {
+        return String.format("%s%n", message);
+    }
+
+    private static String generateClueMessage(DictionaryWord targetWord, int numberOfUsedAttempts) {
+        if (numberOfUsedAttempts >= MAX_ATTEMPTS / 2 && targetWord.clue() != null && !targetWord.clue().isBlank()) {
+            return String.format("Clue: %s%n", targetWord.clue());
+        } else {
+            return "";
+        }
+    }
+
+    private static String generateDefeatMessage(DictionaryWord targetWord) {
+        return String.format("Target word: %s.%nDefeat!", targetWord.word());
+    }
+}
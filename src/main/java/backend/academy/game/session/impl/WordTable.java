@@ -0,0 +1,30 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Numbers words of a dictionary, so that a game can refer to its word by a number.
+ */
+final class WordTable {
+    private WordTable() {
+
+    }
+
+    /**
+     * Lists all words of the dictionary by sorted level and category, so the same dictionary gives the same numbers.
+     */
+    static List<DictionaryWord> of(Dictionary dictionary) {
+        List<DictionaryWord> words = new ArrayList<>();
+        for (Level level : new TreeSet<>(dictionary.getLevels())) {
+            for (String category : new TreeSet<>(dictionary.getCategoriesByLevel(level))) {
+                words.addAll(dictionary.getDictionaryWords(level, category));
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,137 @@
+package backend.academy.game.user.impl;
+
+import backend.academy.game.session.Session;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * Scripted games played back to back, e.g. for regression and replay tests.
+ * Every line of the input is a game: level, category and guesses separated by whitespace,
+ * e.g. {@code easy weather c o l d}. Blank lines and lines starting with {@code #} are skipped.
+ * <p>
+ * The dialogue is the one of the console, with every input line echoed. Text of a game is collected in memory
+ * and written to the channel once the game is over, so output costs one write per game.
+ * A game that runs out of guesses is left unfinished.
+ */
+public final class BatchUserInteraction extends LineBasedUserInteraction {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SEPARATOR = Pattern.compile("\\s+");
+    private static final String COMMENT = "#";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String NO_GUESSES_LEFT = LINE_SEPARATOR + "No guesses left, the game is not finished."
+        + LINE_SEPARATOR;
+
+    private final BufferedReader reader;
+    private final WritableByteChannel channel;
+    private final Queue<String> lines = new ArrayDeque<>();
+    private final StringBuilder text = new StringBuilder();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private int numberOfGames;
+
+    private BatchUserInteraction(BufferedReader reader, WritableByteChannel channel) {
+        this.reader = reader;
+        this.channel = channel;
+    }
+
+    public static BatchUserInteraction getInstance(BufferedReader reader, WritableByteChannel channel) {
+        return new BatchUserInteraction(reader, channel);
+    }
+
+    /**
+     * Reads the script of the next game, returns {@code false} at the end of the input.
+     */
+    public boolean nextGame() throws IOException {
+        String line = reader.readLine();
+        while (line != null && (line.isBlank() || line.startsWith(COMMENT))) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return false;
+        }
+
+        lines.clear();
+        for (String token : SEPARATOR.split(line.strip())) {
+            lines.add(token);
+        }
+        while (lines.size() < 2) {
+            lines.add("");
+        }
+        return true;
+    }
+
+    /**
+     * Plays the game until it is over or the guesses run out and writes its text.
+     */
+    @Override
+    public void run(Session session) {
+        try {
+            super.run(session);
+        } catch (NoSuchElementException e) {
+            print(NO_GUESSES_LEFT);
+        }
+
+        numberOfGames++;
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int numberOfGames() {
+        return numberOfGames;
+    }
+
+    private void flush() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            write();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            write();
+        }
+        write();
+        text.setLength(0);
+    }
+
+    private void write() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Throws {@link NoSuchElementException} like {@link java.util.Scanner#nextLine()} once the script is over.
+     */
+    @Override
+    protected String nextLine() {
+        String line = lines.poll();
+        if (line == null) {
+            throw new NoSuchElementException("No line found");
+        }
+        text.append(line).append(LINE_SEPARATOR);
+        return line;
+    }
+
+    @Override
+    protected void print(String string) {
+        text.append(string);
+    }
+}
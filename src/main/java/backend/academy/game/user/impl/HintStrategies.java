@@ -0,0 +1,34 @@
+package backend.academy.game.user.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.bot.impl.EntropyGuessStrategy;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.impl.PatternIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Solvers giving hints, one per category of a dictionary: only the words of the category are indexed,
+ * so a dictionary that loads categories lazily reads just the one being played, and every interaction
+ * playing the category shares the index. Views of a dictionary share the solvers of the dictionary they unwrap to.
+ */
+final class HintStrategies {
+    private static final int MAX_CATEGORIES = 64;
+    private static final Cache<Key, GuessStrategy> KEY2STRATEGY = Caffeine.newBuilder()
+        .maximumSize(MAX_CATEGORIES)
+        .build();
+
+    private HintStrategies() {
+    }
+
+    static GuessStrategy of(Dictionary dictionary, Level level, String category) {
+        return KEY2STRATEGY.get(
+            new Key(dictionary.unwrap(), level, category),
+            key -> EntropyGuessStrategy.getInstance(PatternIndex.getInstance(key.dictionary(), level, category))
+        );
+    }
+
+    private record Key(Dictionary dictionary, Level level, String category) {
+    }
+}
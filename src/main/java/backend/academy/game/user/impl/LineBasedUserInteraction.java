@@ -0,0 +1,175 @@
+package backend.academy.game.user.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.user.UserInteraction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Text dialogue of a game, independent of where lines come from and where text goes to.
+ * Instead of a symbol the player may input {@value #HINT} to get the letter the solver would guess,
+ * the solver is built on the words of the level and category the word was drawn from.
+ */
+abstract class LineBasedUserInteraction implements UserInteraction {
+    static final String HINT = "?";
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private Dictionary dictionary;
+    private Level wordLevel;
+    private String wordCategory;
+    private GuessStrategy hintStrategy;
+
+    @Override
+    public DictionaryWord getDictionaryWord(Dictionary dictionary) {
+        this.dictionary = dictionary;
+        this.hintStrategy = null;
+        Level level = chooseLevel(dictionary);
+        String category = chooseCategory(level, dictionary);
+        return getDictionaryWord(level, category, dictionary);
+    }
+
+    private Level chooseLevel(Dictionary dictionary) {
+        Set<Level> levels = new TreeSet<>(dictionary.getLevels());
+
+        String message = createNumberedMessage("Choose level of game:\n", levels);
+        print(message);
+
+        String chosenLevel = nextLine();
+        Optional<Level> optionalLevel = levels.stream()
+            .filter(level -> level.compareToWithIgnoringCase(chosenLevel))
+            .findFirst();
+
+        if (optionalLevel.isPresent()) {
+            Level level = optionalLevel.orElseThrow();
+            println(String.format("You choose %s level.", level));
+            return level;
+        } else {
+            reportWarning();
+            Level level = dictionary.getDefaultLevel();
+            println(String.format("The default game level is used: %s.", level));
+            return level;
+        }
+    }
+
+    private String chooseCategory(Level level, Dictionary dictionary) {
+        List<String> categories = handleCategories(dictionary.getCategoriesByLevel(level));
+
+        String message = createNumberedMessage("Choose category of words:\n", categories);
+        print(message);
+
+        String category = nextLineInLowerCase();
+        if (categories.contains(category)) {
+            println(String.format("You choose category: %s.", category));
+            return category;
+        } else {
+            reportWarning();
+            Optional<String> optionalCategory = dictionary.getCategoryByLevel(level);
+            String chosenCategory = optionalCategory.isPresent()
+                ? optionalCategory.orElseThrow()
+                : dictionary.getDefaultCategory();
+            println(String.format("We choose category for you: %s.", chosenCategory));
+            return chosenCategory;
+        }
+    }
+
+    private List<String> handleCategories(Set<String> categories) {
+        return new ArrayList<>(categories).stream()
+            .sorted()
+            .map(String::toLowerCase)
+            .toList();
+    }
+
+    private String nextLineInLowerCase() {
+        return nextLine().toLowerCase();
+    }
+
+    private <T> String createNumberedMessage(String info, Iterable<T> iterable) {
+        StringBuilder message = new StringBuilder();
+        message.append(info);
+        int i = 1;
+        for (T t : iterable) {
+            message
+                .append(i++).append(". ")
+                .append(t).append('\n');
+        }
+        return message.toString();
+    }
+
+    private void reportWarning() {
+        println("Incorrect input.");
+    }
+
+    /**
+     * Remembers the level and category the word is drawn from, the default ones if the category has no words.
+     */
+    private DictionaryWord getDictionaryWord(Level level, String category, Dictionary dictionary) {
+        Optional<DictionaryWord> optionalDictionaryWord = dictionary.getDictionaryWord(level, category);
+        if (optionalDictionaryWord.isPresent()) {
+            wordLevel = level;
+            wordCategory = category;
+            return optionalDictionaryWord.orElseThrow();
+        }
+
+        wordLevel = dictionary.getDefaultLevel();
+        wordCategory = dictionary.getDefaultCategory();
+        return dictionary.getDictionaryWord(wordLevel, wordCategory)
+            .orElseGet(dictionary::getDefaultDictionaryWord);
+    }
+
+    @Override
+    public void run(Session session) {
+        SessionState sessionState = session.getSessionState();
+        while (!sessionState.isFinished()) {
+            display(sessionState);
+            sessionState = updateState(session);
+        }
+        display(sessionState);
+    }
+
+    private void display(SessionState sessionState) {
+        println(sessionState.message());
+    }
+
+    private SessionState updateState(Session session) {
+        String symbol = inputSymbol();
+        while (HINT.equals(symbol)) {
+            println(hint(session));
+            symbol = inputSymbol();
+        }
+        return session.updateState(symbol);
+    }
+
+    private String hint(Session session) {
+        if (dictionary == null) {
+            return "No hint.";
+        }
+        if (hintStrategy == null) {
+            hintStrategy = HintStrategies.of(dictionary, wordLevel, wordCategory).newGame();
+        }
+        return hintStrategy.nextGuess(session.pattern(), session.missedSymbols())
+            .map(letter -> String.format("Hint: try %s.", letter))
+            .orElse("No hint.");
+    }
+
+    private String inputSymbol() {
+        print("Input symbol: ");
+        return nextLine();
+    }
+
+    private void println(String string) {
+        print(string + LINE_SEPARATOR);
+    }
+
+    protected abstract String nextLine();
+
+    protected abstract void print(String string);
+}
@@ -0,0 +1,206 @@
+package backend.academy.game.user.impl;
+
+import backend.academy.game.Hangman;
+import backend.academy.game.dictionary.Dictionary;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves games over a telnet style line protocol.
+ * One selector thread does all socket I/O, and the dialogue of every connection runs on its own virtual thread
+ * that is parked while the player thinks, so an idle connection costs a key, a parked thread and a few buffers.
+ * After the game is over and its last message is written, the server shuts down its side of the connection.
+ */
+public final class NioUserInteractionServer implements Closeable {
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final Dictionary dictionary;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final Queue<SocketUserInteraction> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final Thread eventLoop;
+    private volatile boolean isClosed;
+
+    private NioUserInteractionServer(Dictionary dictionary, Selector selector, ServerSocketChannel serverChannel) {
+        this.dictionary = dictionary;
+        this.selector = selector;
+        this.serverChannel = serverChannel;
+        this.eventLoop = Thread.ofPlatform().name("hangman-event-loop").unstarted(this::runEventLoop);
+    }
+
+    public static NioUserInteractionServer start(Dictionary dictionary, InetSocketAddress address)
+        throws IOException {
+        Selector selector = Selector.open();
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException | RuntimeException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+
+        NioUserInteractionServer server = new NioUserInteractionServer(dictionary, selector, serverChannel);
+        server.eventLoop.start();
+        return server;
+    }
+
+    public InetSocketAddress getLocalAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Blocks until the server is closed.
+     */
+    public void awaitClose() throws InterruptedException {
+        eventLoop.join();
+    }
+
+    private void runEventLoop() {
+        try {
+            while (!isClosed) {
+                selector.select(this::handle);
+                flushPendingWrites();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closeConnections();
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        try {
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+
+            SocketUserInteraction userInteraction = (SocketUserInteraction) key.attachment();
+            if (key.isReadable() && !userInteraction.read(readBuffer)) {
+                if (userInteraction.isOutputShutdown()) {
+                    close(key);
+                    return;
+                }
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(userInteraction);
+            }
+        } catch (IOException e) {
+            close(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        SocketUserInteraction userInteraction = new SocketUserInteraction(key, this::requestWrite);
+        key.attach(userInteraction);
+        executor.execute(() -> play(userInteraction));
+    }
+
+    private void play(SocketUserInteraction userInteraction) {
+        try {
+            Hangman.create(userInteraction, dictionary);
+        } catch (NoSuchElementException e) {
+            // The player has left before the end of the game.
+        } finally {
+            userInteraction.finish();
+        }
+    }
+
+    private void requestWrite(SocketUserInteraction userInteraction) {
+        pendingWrites.add(userInteraction);
+        selector.wakeup();
+    }
+
+    private void flushPendingWrites() {
+        SocketUserInteraction userInteraction = pendingWrites.poll();
+        while (userInteraction != null) {
+            SelectionKey key = userInteraction.key();
+            try {
+                if (key.isValid()) {
+                    write(userInteraction);
+                }
+                if (key.isValid()) {
+                    userInteraction.resumeRead();
+                }
+            } catch (IOException e) {
+                close(key);
+            }
+            userInteraction = pendingWrites.poll();
+        }
+    }
+
+    private void write(SocketUserInteraction userInteraction) throws IOException {
+        // Read before flushing: once the game is finished, all of its text is already queued.
+        boolean isFinished = userInteraction.isFinished();
+        SelectionKey key = userInteraction.key();
+        if (!userInteraction.flush()) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+        } else if (!isFinished) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } else if (userInteraction.isInputEnded()) {
+            close(key);
+        } else {
+            userInteraction.shutdownOutput();
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // The connection is dropped anyway.
+        }
+        if (key.attachment() instanceof SocketUserInteraction userInteraction) {
+            userInteraction.endInput();
+        }
+    }
+
+    private void closeConnections() {
+        for (SelectionKey key : selector.keys()) {
+            close(key);
+        }
+    }
+
+    /**
+     * Drops all connections, waits for their games to end and releases the port.
+     */
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        selector.wakeup();
+        try {
+            eventLoop.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.close();
+        selector.close();
+    }
+}
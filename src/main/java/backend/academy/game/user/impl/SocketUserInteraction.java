@@ -0,0 +1,227 @@
+package backend.academy.game.user.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Dialogue of one connection of {@link NioUserInteractionServer}.
+ * The game thread waits for lines parsed by the event loop and queues text that the event loop writes,
+ * so the socket itself is touched by the event loop only.
+ * <p>
+ * At most {@link #MAX_QUEUED_LINES} lines wait for the game: when the queue is full, the rest of the input
+ * is kept aside and the connection is not read until the game takes a line, so a flooding peer costs
+ * no more than a quiet one. A line longer than {@link #MAX_LINE_LENGTH} bytes is discarded as a whole.
+ */
+final class SocketUserInteraction extends LineBasedUserInteraction {
+    static final int MAX_LINE_LENGTH = 1024;
+    static final int MAX_QUEUED_LINES = 16;
+
+    private static final Line END_OF_INPUT = new Line(null);
+
+    private final SelectionKey key;
+    private final Consumer<SocketUserInteraction> writeRequester;
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final BlockingQueue<Line> lines = new LinkedBlockingQueue<>();
+    private final Queue<ByteBuffer> output = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isWriteRequested = new AtomicBoolean();
+    private volatile boolean isFinished;
+    private boolean isInputEnded;
+    private boolean isOutputShutdown;
+    private boolean isDiscardingLine;
+    // Input read while the queue of lines was full, null if reading is not paused.
+    private byte[] unparsedInput;
+    private volatile boolean isReadPaused;
+
+    SocketUserInteraction(SelectionKey key, Consumer<SocketUserInteraction> writeRequester) {
+        this.key = key;
+        this.writeRequester = writeRequester;
+    }
+
+    SelectionKey key() {
+        return key;
+    }
+
+    /**
+     * Reads available bytes through the shared buffer and queues every completed line,
+     * input that comes after the end of the game is discarded.
+     * Returns {@code false} when the peer has shut down its output.
+     */
+    boolean read(ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        if (((SocketChannel) key.channel()).read(buffer) < 0) {
+            isInputEnded = true;
+            endInput();
+            return false;
+        }
+
+        buffer.flip();
+        parse(buffer);
+        return true;
+    }
+
+    private void parse(ByteBuffer buffer) {
+        while (!isFinished && buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n' && isDiscardingLine) {
+                isDiscardingLine = false;
+            } else if (b == '\n') {
+                completeLine();
+                if (pauseReadIfFull(buffer)) {
+                    return;
+                }
+            } else if (!isDiscardingLine) {
+                partialLine.write(b);
+                if (partialLine.size() > MAX_LINE_LENGTH) {
+                    partialLine.reset();
+                    isDiscardingLine = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The queue is checked again after the pause is published, so a game thread that has taken lines
+     * in between either is seen here or sees the pause and asks to resume.
+     */
+    private boolean pauseReadIfFull(ByteBuffer buffer) {
+        if (lines.size() < MAX_QUEUED_LINES) {
+            return false;
+        }
+
+        isReadPaused = true;
+        if (lines.size() < MAX_QUEUED_LINES) {
+            isReadPaused = false;
+            return false;
+        }
+
+        unparsedInput = new byte[buffer.remaining()];
+        buffer.get(unparsedInput);
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        return true;
+    }
+
+    /**
+     * Called by the event loop after {@link #flush()}: once the game has taken a line, the input kept aside
+     * is parsed and reading goes on unless the queue is full again.
+     */
+    void resumeRead() {
+        if (!isReadPaused || lines.size() >= MAX_QUEUED_LINES) {
+            return;
+        }
+
+        ByteBuffer input = ByteBuffer.wrap(unparsedInput);
+        unparsedInput = null;
+        isReadPaused = false;
+        parse(input);
+        if (!isReadPaused) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        }
+    }
+
+    private void completeLine() {
+        String line = partialLine.toString(StandardCharsets.UTF_8);
+        partialLine.reset();
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
+        }
+        lines.add(new Line(line));
+    }
+
+    void endInput() {
+        lines.add(END_OF_INPUT);
+    }
+
+    /**
+     * Writes queued text until the socket buffer is full.
+     * Returns {@code true} when nothing is left to write.
+     */
+    boolean flush() throws IOException {
+        isWriteRequested.set(false);
+
+        SocketChannel channel = (SocketChannel) key.channel();
+        ByteBuffer buffer = output.peek();
+        while (buffer != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                return false;
+            }
+            output.poll();
+            buffer = output.peek();
+        }
+        return true;
+    }
+
+    boolean isInputEnded() {
+        return isInputEnded;
+    }
+
+    /**
+     * Tells the peer that the game is over, the connection is closed once the peer has closed its side,
+     * so the rest of its input is read rather than reset.
+     */
+    void shutdownOutput() throws IOException {
+        isOutputShutdown = true;
+        ((SocketChannel) key.channel()).shutdownOutput();
+    }
+
+    boolean isOutputShutdown() {
+        return isOutputShutdown;
+    }
+
+    boolean isFinished() {
+        return isFinished;
+    }
+
+    void finish() {
+        isFinished = true;
+        requestWrite();
+    }
+
+    /**
+     * Blocks like {@link java.util.Scanner#nextLine()} and, like it, throws {@link NoSuchElementException}
+     * once the input is over.
+     */
+    @Override
+    protected String nextLine() {
+        try {
+            Line line = lines.take();
+            if (isReadPaused) {
+                requestWrite();
+            }
+            if (line == END_OF_INPUT) {
+                lines.add(END_OF_INPUT);
+                throw new NoSuchElementException("No line found");
+            }
+            return line.text();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NoSuchElementException("Interrupted while waiting for a line");
+        }
+    }
+
+    @Override
+    protected void print(String string) {
+        output.add(ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8)));
+        requestWrite();
+    }
+
+    private void requestWrite() {
+        if (isWriteRequested.compareAndSet(false, true)) {
+            writeRequester.accept(this);
+        }
+    }
+
+    private record Line(String text) {
+    }
+}
@@ -0,0 +1,151 @@
+package backend.academy.game;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.session.Session;
+import backend.academy.game.user.UserInteraction;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HangmanEventsTest {
+    private static final String EVENT_PREFIX = "backend.academy.hangman.";
+    private static final String CATEGORY = "weather";
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Draws a weather word and guesses its letters in order, so the game is won without misses.
+     */
+    private static final class GuessingUserInteraction implements UserInteraction {
+        private DictionaryWord dictionaryWord;
+
+        @Override
+        public DictionaryWord getDictionaryWord(Dictionary dictionary) {
+            dictionaryWord = dictionary.getDictionaryWord(Level.EASY, CATEGORY).orElseThrow();
+            return dictionaryWord;
+        }
+
+        @Override
+        public void run(Session session) {
+            for (char symbol : dictionaryWord.word().toCharArray()) {
+                session.updateState(String.valueOf(symbol));
+            }
+        }
+    }
+
+    /**
+     * Takes the default word and makes one guess, so the game is left unfinished.
+     */
+    private static final class DefaultWordUserInteraction implements UserInteraction {
+        private DictionaryWord dictionaryWord;
+
+        @Override
+        public DictionaryWord getDictionaryWord(Dictionary dictionary) {
+            dictionaryWord = dictionary.getDefaultDictionaryWord();
+            return dictionaryWord;
+        }
+
+        @Override
+        public void run(Session session) {
+            session.updateState(dictionaryWord.word().substring(0, 1));
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable game, String... eventNames) throws IOException {
+        Path path = tempDir.resolve("hangman.jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(EVENT_PREFIX + eventName);
+            }
+            recording.start();
+            game.run();
+            recording.stop();
+            recording.dump(path);
+        }
+        return RecordingFile.readAllEvents(path);
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(EVENT_PREFIX + eventName))
+            .toList();
+    }
+
+    @Test
+    public void sessionLifecycleEvents() throws IOException {
+        // Arrange
+        GuessingUserInteraction userInteraction = new GuessingUserInteraction();
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+
+        // Act
+        List<RecordedEvent> events = record(
+            () -> Hangman.create(userInteraction, dictionary),
+            "SessionStarted", "GuessProcessed", "SessionFinished", "DictionaryDraw"
+        );
+
+        // Assert
+        List<RecordedEvent> started = eventsOf(events, "SessionStarted");
+        assertThat(started).hasSize(1);
+        assertThat(started.getFirst().getString("level")).isEqualTo("easy");
+        assertThat(started.getFirst().getString("category")).isEqualTo(CATEGORY);
+
+        List<RecordedEvent> draws = eventsOf(events, "DictionaryDraw");
+        assertThat(draws).hasSize(1);
+        assertThat(draws.getFirst().getBoolean("isFound")).isTrue();
+
+        int numberOfLetters = userInteraction.dictionaryWord.word().length();
+        List<RecordedEvent> guesses = eventsOf(events, "GuessProcessed");
+        assertThat(guesses).hasSize(numberOfLetters);
+        assertThat(guesses.getFirst().getString("outcome")).isEqualTo("GUESSED");
+
+        List<RecordedEvent> finished = eventsOf(events, "SessionFinished");
+        assertThat(finished).hasSize(1);
+        assertThat(finished.getFirst().getBoolean("isVictory")).isTrue();
+        assertThat(finished.getFirst().getInt("numberOfUsedAttempts")).isEqualTo(0);
+    }
+
+    @Test
+    public void defaultWordIsRecordedWithItsCategory() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+
+        for (int i = 0; i < 20; i++) {
+            DefaultWordUserInteraction userInteraction = new DefaultWordUserInteraction();
+
+            // Act
+            List<RecordedEvent> events = record(() -> Hangman.create(userInteraction, dictionary), "SessionStarted");
+
+            // Assert
+            RecordedEvent started = eventsOf(events, "SessionStarted").getFirst();
+            Level level = dictionary.getLevels().stream()
+                .filter(candidate -> candidate.toString().equals(started.getString("level")))
+                .findFirst()
+                .orElseThrow();
+            assertThat(dictionary.getDictionaryWords(level, started.getString("category")))
+                .contains(userInteraction.dictionaryWord);
+        }
+    }
+
+    @Test
+    public void eventsAreDisabledByDefault() throws IOException {
+        // Arrange
+        GuessingUserInteraction userInteraction = new GuessingUserInteraction();
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+
+        // Act
+        List<RecordedEvent> events = record(() -> Hangman.create(userInteraction, dictionary));
+
+        // Assert
+        assertThat(events.stream().filter(event -> event.getEventType().getName().startsWith(EVENT_PREFIX)).toList())
+            .isEmpty();
+    }
+}
@@ -0,0 +1,161 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.bot.LoadReport;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.dictionary.impl.PatternIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntropyGuessStrategyTest {
+    private static List<DictionaryWord> generateWords(int numberOfWords) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<DictionaryWord> words = new ArrayList<>(numberOfWords);
+        for (int i = 0; i < numberOfWords; i++) {
+            char[] word = new char[6];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char) ('A' + random.nextInt(8));
+            }
+            words.add(new LevelBasedDictionaryWord(String.valueOf(word), ""));
+        }
+        return words;
+    }
+
+    @Test
+    public void nextGuessSplitsCandidatesBest() {
+        // Arrange
+        EntropyGuessStrategy strategy = EntropyGuessStrategy.getInstance(PatternIndex.getInstance(List.of(
+            new LevelBasedDictionaryWord("banana", "Yellow fruit."),
+            new LevelBasedDictionaryWord("canada", "Country."),
+            new LevelBasedDictionaryWord("bahama", "Islands."),
+            new LevelBasedDictionaryWord("pajama", "Clothes.")
+        )));
+
+        // Act
+        Optional<String> first = strategy.nextGuess("______", "");
+        Optional<String> last = strategy.nextGuess("_A_A_A", "NBM");
+
+        // Assert
+        assertThat(first).isEqualTo(Optional.of("N"));
+        assertThat(last).isEqualTo(Optional.of("C"));
+    }
+
+    @Test
+    public void nextGuessOfUnknownWord() {
+        // Arrange
+        EntropyGuessStrategy strategy = EntropyGuessStrategy.getInstance(PatternIndex.getInstance(List.of(
+            new LevelBasedDictionaryWord("tea", "Drink.")
+        )));
+
+        // Act
+        Optional<String> unknown = strategy.nextGuess("_____", "T");
+        Optional<String> nothingLeft = strategy.nextGuess("TEA", "");
+
+        // Assert
+        assertThat(unknown).isEqualTo(Optional.of("A"));
+        assertThat(nothingLeft).isEmpty();
+    }
+
+    @Test
+    public void gameNarrowsCandidatesLikeLookUp() {
+        // Arrange
+        List<DictionaryWord> words = generateWords(50_000);
+        EntropyGuessStrategy strategy = EntropyGuessStrategy.getInstance(PatternIndex.getInstance(words));
+        String word = words.get(123).word();
+        GuessStrategy game = strategy.newGame();
+        char[] pattern = "______".toCharArray();
+        StringBuilder missedSymbols = new StringBuilder();
+
+        // Act & Assert
+        while (String.valueOf(pattern).indexOf('_') >= 0) {
+            Optional<String> guess = game.nextGuess(String.valueOf(pattern), missedSymbols.toString());
+            assertThat(guess).isEqualTo(strategy.nextGuess(String.valueOf(pattern), missedSymbols.toString()));
+
+            char letter = guess.orElseThrow().charAt(0);
+            if (word.indexOf(letter) < 0) {
+                missedSymbols.append(letter);
+            }
+            for (int i = 0; i < pattern.length; i++) {
+                if (word.charAt(i) == letter) {
+                    pattern[i] = letter;
+                }
+            }
+        }
+        assertThat(missedSymbols.length()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    public void botsWinMoreThanWithFrequentLetters() throws InterruptedException, ExecutionException {
+        // Arrange
+        Dictionary dictionary = LevelBasedDictionary.getInstance();
+        LoadGenerator solverBots = LoadGenerator.getInstance(
+            dictionary, EntropyGuessStrategy.getInstance(PatternIndex.getInstance(dictionary))
+        );
+        LoadGenerator frequencyBots = LoadGenerator.getInstance(
+            dictionary, FrequencyGuessStrategy.getInstance(dictionary)
+        );
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            LoadReport solver = solverBots.run(4, 50, 42, executor);
+            LoadReport frequency = frequencyBots.run(4, 50, 42, executor);
+
+            // Assert
+            assertThat(solver.winRate()).isEqualTo(1.0);
+            assertThat(solver.winRate()).isGreaterThanOrEqualTo(frequency.winRate());
+        }
+    }
+
+    @Test
+    public void nextGuessOfSupplementaryLetters() {
+        // Arrange
+        String a = Character.toString(0x10437);
+        String b = Character.toString(0x1042F);
+        String c = Character.toString(0x10430);
+        GuessStrategy game = EntropyGuessStrategy.getInstance(PatternIndex.getInstance(List.of(
+            new LevelBasedDictionaryWord(a + b + a, ""),
+            new LevelBasedDictionaryWord(a + c + a, "")
+        ))).newGame();
+
+        // Act
+        Optional<String> first = game.nextGuess("___", "");
+        Optional<String> second = game.nextGuess("___", b);
+
+        // Assert
+        assertThat(first).isEqualTo(Optional.of(Character.toString(0x10407)));
+        assertThat(second).isEqualTo(Optional.of(Character.toString(0x10408)));
+    }
+
+    @Test
+    public void nextGuessDoesNotDependOnLocale() {
+        // Arrange
+        EntropyGuessStrategy strategy = EntropyGuessStrategy.getInstance(PatternIndex.getInstance(List.of(
+            new LevelBasedDictionaryWord("kilim", "Rug."),
+            new LevelBasedDictionaryWord("kalam", "Pen.")
+        )));
+        Locale locale = Locale.getDefault();
+        Optional<String> actual;
+
+        // Act
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            actual = strategy.nextGuess("_i_i_", "");
+        } finally {
+            Locale.setDefault(locale);
+        }
+
+        // Assert
+        assertThat(actual).isEqualTo(Optional.of("K"));
+    }
+}
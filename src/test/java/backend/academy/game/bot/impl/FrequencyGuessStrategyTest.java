@@ -0,0 +1,43 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrequencyGuessStrategyTest {
+    private static final FrequencyGuessStrategy STRATEGY = FrequencyGuessStrategy.getInstance(List.of(
+        new LevelBasedDictionaryWord("cocoa", "Hot drink."),
+        new LevelBasedDictionaryWord("tea", "Drink."),
+        new LevelBasedDictionaryWord("coffee", "Drink."),
+        new LevelBasedDictionaryWord("12", "Not a word.")
+    ));
+
+    @Test
+    public void lettersAreOrderedByNumberOfWords() {
+        // Act
+        String actual = STRATEGY.letters();
+
+        // Assert
+        assertThat(actual).isEqualTo("ACEOFT");
+    }
+
+    @Test
+    public void nextGuessSkipsTriedLetters() {
+        // Act
+        Optional<String> actual = STRATEGY.nextGuess("_O_OA", "EF");
+
+        // Assert
+        assertThat(actual).isEqualTo(Optional.of("C"));
+    }
+
+    @Test
+    public void nextGuessWhenAllLettersAreTried() {
+        // Act
+        Optional<String> actual = STRATEGY.nextGuess("COFFEE", "AT");
+
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package backend.academy.game.bot.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.bot.LoadReport;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.dictionary.impl.PatternIndex;
+import backend.academy.game.session.UpdateInfo;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadGeneratorTest {
+    private static final Dictionary DICTIONARY = LevelBasedDictionary.getInstance();
+    private static final LoadGenerator LOAD_GENERATOR =
+        LoadGenerator.getInstance(DICTIONARY, FrequencyGuessStrategy.getInstance(DICTIONARY));
+
+    @Test
+    public void runPlaysAllGamesToTheEnd() throws InterruptedException, ExecutionException {
+        // Arrange
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            LoadReport actual = LOAD_GENERATOR.run(8, 25, 42, executor);
+
+            // Assert
+            assertThat(actual.games()).isEqualTo(200);
+            assertThat(actual.metrics().sessionsCreated()).isEqualTo(200);
+            assertThat(actual.metrics().victories() + actual.metrics().defeats()).isEqualTo(200);
+            assertThat(actual.metrics().guesses(UpdateInfo.ALREADY_GUESSED)).isEqualTo(0);
+            assertThat(actual.metrics().updateStateLatency().count()).isEqualTo(actual.guesses());
+            assertThat(actual.winRate()).isBetween(0.0, 1.0);
+            assertThat(actual.describe()).contains("games: 200");
+        }
+    }
+
+    @Test
+    public void runWithSameSeedPlaysSameGames() throws InterruptedException, ExecutionException {
+        // Arrange
+        try (ExecutorService pool = Executors.newFixedThreadPool(3);
+             ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            LoadReport first = LOAD_GENERATOR.run(5, 20, 7, pool);
+            LoadReport second = LOAD_GENERATOR.run(5, 20, 7, virtualThreads);
+
+            // Assert
+            assertThat(second.metrics().victories()).isEqualTo(first.metrics().victories());
+            assertThat(second.metrics().guesses()).isEqualTo(first.metrics().guesses());
+        }
+    }
+
+    @Test
+    public void botsSeePatternOfSession() throws InterruptedException, ExecutionException {
+        // Arrange
+        String word = Character.toString(0x10437) + Character.toString(0x1042F) + Character.toString(0x10437);
+        Dictionary dictionary = LevelBasedDictionary.getInstance(new Random(0), Map.of(
+            Level.EASY, Map.of("deseret", List.of(
+                new LevelBasedDictionaryWord(word, ""),
+                new LevelBasedDictionaryWord("straße", "")
+            ))
+        ));
+        LoadGenerator loadGenerator = LoadGenerator.getInstance(
+            dictionary, EntropyGuessStrategy.getInstance(PatternIndex.getInstance(dictionary))
+        );
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            LoadReport actual = loadGenerator.run(2, 10, 42, executor);
+
+            // Assert
+            assertThat(actual.metrics().victories()).isEqualTo(20);
+            assertThat(actual.metrics().guesses(UpdateInfo.NOT_GUESSED)).isEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.session.NormalizedWord;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DictionaryLoaderTest {
+    @TempDir
+    private Path tempDir;
+
+    private static DictionaryWord normalized(String word, String clue) {
+        return NormalizedWord.normalize(new LevelBasedDictionaryWord(word, clue));
+    }
+
+    private static String word(int number) {
+        StringBuilder word = new StringBuilder("w");
+        for (char digit : Integer.toString(number).toCharArray()) {
+            word.append((char) ('a' + digit - '0'));
+        }
+        return word.toString();
+    }
+
+    @Test
+    public void loadText() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("drinks.txt");
+        Files.writeString(path, "# drinks\nTea\tHot drink.\ncocoa\n\nt-34\ntea\tDuplicate.\nlemonade\n");
+
+        // Act
+        LevelBasedDictionary dictionary = DictionaryLoader.load(path);
+
+        // Assert
+        assertThat(dictionary.getLevels()).isEqualTo(Set.of(Level.EASY, Level.MEDIUM));
+        assertThat(dictionary.getDictionaryWords(Level.EASY, "drinks")).containsExactly(
+            normalized("tea", "Hot drink."),
+            normalized("cocoa", "")
+        );
+        assertThat(dictionary.getDictionaryWords(Level.MEDIUM, "drinks")).containsExactly(
+            normalized("lemonade", "")
+        );
+        assertThat(dictionary.getDefaultLevel()).isEqualTo(Level.MEDIUM);
+    }
+
+    @Test
+    public void loadCsv() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("words.csv");
+        Files.writeString(path, """
+            level,category,word,clue
+            hard,food,Tea,"Hot drink, often with ""milk""."
+            ,,orange,Fruit.
+            easy,,cat
+            broken line
+            """);
+
+        // Act
+        LevelBasedDictionary dictionary = DictionaryLoader.load(path, "misc");
+
+        // Assert
+        assertThat(dictionary.getDictionaryWords(Level.HARD, "food")).containsExactly(
+            normalized("tea", "Hot drink, often with \"milk\".")
+        );
+        assertThat(dictionary.getDictionaryWords(Level.MEDIUM, "misc")).containsExactly(
+            normalized("orange", "Fruit.")
+        );
+        assertThat(dictionary.getDictionaryWords(Level.EASY, "misc")).containsExactly(
+            normalized("cat", "")
+        );
+    }
+
+    @Test
+    public void loadJson() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("words.json");
+        Files.writeString(path, """
+            [
+              {"word": "Politics", "clue": "Government.", "level": "hard", "category": "politics"},
+              {"word": "rain", "clue": "Water from the sky.", "category": "weather", "source": "test"},
+              {"word": "42", "clue": "Not a word."}
+            ]
+            """);
+
+        // Act
+        LevelBasedDictionary dictionary = DictionaryLoader.load(path, "misc");
+
+        // Assert
+        assertThat(dictionary.getDictionaryWords(Level.HARD, "politics")).containsExactly(
+            normalized("politics", "Government.")
+        );
+        assertThat(dictionary.getDictionaryWords(Level.EASY, "weather")).containsExactly(
+            normalized("rain", "Water from the sky.")
+        );
+        assertThat(dictionary.getLevels()).hasSize(2);
+    }
+
+    @Test
+    public void loadManyLinesKeepsFirstEntries() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("many.txt");
+        List<String> lines = new ArrayList<>();
+        IntStream.range(0, 200_000).forEach(i -> lines.add(word(i % 1000) + "\t" + i));
+        Files.write(path, lines);
+
+        // Act
+        LevelBasedDictionary dictionary = DictionaryLoader.load(path);
+
+        // Assert
+        List<DictionaryWord> words = new ArrayList<>();
+        for (Level level : dictionary.getLevels()) {
+            words.addAll(dictionary.getDictionaryWords(level, "many"));
+        }
+        assertThat(words).hasSize(1000);
+        assertThat(dictionary.getDictionaryWords(Level.EASY, "many").getFirst())
+            .isEqualTo(normalized(word(0), "0"));
+        assertThat(words.stream().allMatch(word -> Integer.parseInt(word.clue()) < 1000)).isTrue();
+    }
+
+    @Test
+    public void loadFileWithoutWords() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("empty.txt");
+        Files.writeString(path, "123\n\n");
+
+        // Act & Assert
+        assertThatThrownBy(() -> DictionaryLoader.load(path)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> DictionaryLoader.load(tempDir.resolve("missing.csv"))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void loadJsonWithIncorrectEntry() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("incorrect.json");
+        Files.writeString(path, "{\"word\": \"tea\"}\n{\"word\": [\"cocoa\"]}\n");
+
+        // Act & Assert
+        assertThatThrownBy(() -> DictionaryLoader.load(path))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining(path.toString());
+    }
+
+    @Test
+    public void loadJsonWithNullEntry() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("null.json");
+        Files.writeString(path, "[{\"word\": \"tea\"}, null]");
+
+        // Act & Assert
+        assertThatThrownBy(() -> DictionaryLoader.load(path))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining(path.toString());
+    }
+}
@@ -0,0 +1,142 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MappedDictionaryTest {
+    @TempDir
+    private Path tempDir;
+
+    private MappedDictionary writeAndOpen(LevelBasedDictionary levelBasedDictionary) throws IOException {
+        Path path = tempDir.resolve("dictionary.bin");
+        MappedDictionaryWriter.write(levelBasedDictionary, path);
+        return MappedDictionary.getInstance(path);
+    }
+
+    @Test
+    public void getLevels() throws IOException {
+        // Arrange
+        try (MappedDictionary mappedDictionary = writeAndOpen(LevelBasedDictionary.getInstance())) {
+            // Act
+            Set<Level> availableLevels = mappedDictionary.getLevels();
+
+            // Assert
+            assertThat(availableLevels).containsOnly(Level.EASY, Level.MEDIUM, Level.HARD);
+        }
+    }
+
+    @Test
+    public void getCategoriesByLevel() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance();
+        try (MappedDictionary mappedDictionary = writeAndOpen(levelBasedDictionary)) {
+            for (Level level : Level.values()) {
+                // Act
+                Set<String> categories = mappedDictionary.getCategoriesByLevel(level);
+
+                // Assert
+                assertThat(categories).isEqualTo(levelBasedDictionary.getCategoriesByLevel(level));
+            }
+        }
+    }
+
+    @Test
+    public void getDictionaryWords() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance();
+        try (MappedDictionary mappedDictionary = writeAndOpen(levelBasedDictionary)) {
+            for (Level level : Level.values()) {
+                for (String category : levelBasedDictionary.getCategoriesByLevel(level)) {
+                    // Act
+                    List<DictionaryWord> words = mappedDictionary.getDictionaryWords(level, category);
+
+                    // Assert
+                    assertThat(words).isEqualTo(levelBasedDictionary.getDictionaryWords(level, category));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getWordByGoodLevelAndGoodCategory() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance();
+        try (MappedDictionary mappedDictionary = writeAndOpen(levelBasedDictionary)) {
+            // Act
+            Optional<DictionaryWord> dictionaryWord = mappedDictionary.getDictionaryWord(Level.HARD, "politics");
+
+            // Assert
+            assertThat(levelBasedDictionary.getDictionaryWords(Level.HARD, "politics"))
+                .contains(dictionaryWord.orElseThrow());
+        }
+    }
+
+    @Test
+    public void getWordByBadLevelOrCategory() throws IOException {
+        // Arrange
+        try (MappedDictionary mappedDictionary = writeAndOpen(LevelBasedDictionary.getInstance())) {
+            // Act
+            Optional<DictionaryWord> byBadLevel = mappedDictionary.getDictionaryWord(null, "politics");
+            Optional<DictionaryWord> byBadCategory = mappedDictionary.getDictionaryWord(Level.HARD, "weather");
+
+            // Assert
+            assertThat(byBadLevel).isEmpty();
+            assertThat(byBadCategory).isEmpty();
+        }
+    }
+
+    @Test
+    public void getInstanceOfNotDictionaryFile() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("not-a-dictionary.bin");
+        Files.writeString(path, "Hangman");
+
+        // Act & Assert
+        assertThatThrownBy(() -> MappedDictionary.getInstance(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void getInstanceOfFileWithUnknownLevel() throws IOException {
+        // Arrange
+        Path path = tempDir.resolve("dictionary.bin");
+        MappedDictionaryWriter.write(LevelBasedDictionary.getInstance(), path);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt((int) MappedDictionaryFormat.levelsOffset(), Level.values().length);
+        Files.write(path, bytes);
+
+        // Act & Assert
+        assertThatThrownBy(() -> MappedDictionary.getInstance(path))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("is not a dictionary file");
+    }
+
+    @Test
+    public void defaultLevelIsFirstAvailableWithoutMedium() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance(new Random(0), Map.of(
+            Level.HARD, Map.of("politics", List.of(new LevelBasedDictionaryWord("election", "Vote.")))
+        ));
+        try (MappedDictionary mappedDictionary = writeAndOpen(levelBasedDictionary)) {
+            // Act
+            Level defaultLevel = mappedDictionary.getDefaultLevel();
+            DictionaryWord defaultWord = mappedDictionary.getDefaultDictionaryWord();
+
+            // Assert
+            assertThat(defaultLevel).isEqualTo(Level.HARD);
+            assertThat(defaultWord.word()).isEqualTo("election");
+        }
+    }
+}
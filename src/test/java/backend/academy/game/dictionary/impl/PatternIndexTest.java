@@ -0,0 +1,140 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PatternIndexTest {
+    private static final DictionaryWord BANANA = new LevelBasedDictionaryWord("banana", "Yellow fruit.");
+    private static final DictionaryWord CANADA = new LevelBasedDictionaryWord("Canada", "Country.");
+    private static final DictionaryWord BAHAMA = new LevelBasedDictionaryWord("bahama", "Islands.");
+    private static final DictionaryWord PAJAMA = new LevelBasedDictionaryWord("pajama", "Clothes.");
+    private static final PatternIndex INDEX = PatternIndex.getInstance(List.of(
+        BANANA,
+        CANADA,
+        BAHAMA,
+        PAJAMA,
+        new LevelBasedDictionaryWord("BANANA", "Duplicate."),
+        new LevelBasedDictionaryWord("tea", "Drink."),
+        new LevelBasedDictionaryWord("t-34", "Not a word.")
+    ));
+
+    @Test
+    public void findByRevealedLetters() {
+        // Act
+        List<DictionaryWord> actual = INDEX.find("_A_A_A", "");
+
+        // Assert
+        assertThat(actual).containsExactly(BANANA, CANADA, BAHAMA, PAJAMA);
+    }
+
+    @Test
+    public void findWithExcludedLetters() {
+        // Act
+        List<DictionaryWord> actual = INDEX.find("_a_a_a", "nP");
+
+        // Assert
+        assertThat(actual).containsExactly(BAHAMA);
+    }
+
+    @Test
+    public void revealedLetterIsNotHidden() {
+        // Act
+        List<DictionaryWord> actual = INDEX.find("_ANANA", "");
+        int count = INDEX.count("B_N___", "");
+
+        // Assert
+        assertThat(actual).containsExactly(BANANA);
+        assertThat(count).isEqualTo(0);
+    }
+
+    @Test
+    public void matchUnknownLetterOrLength() {
+        // Act
+        BitSet unknownLetter = INDEX.match("Z_____", "");
+        BitSet unknownLength = INDEX.match("________", "");
+
+        // Assert
+        assertThat(unknownLetter.isEmpty()).isTrue();
+        assertThat(unknownLength.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void matchNumbersWordsOfLength() {
+        // Act
+        BitSet actual = INDEX.match("C_____", "");
+
+        // Assert
+        assertThat(INDEX.size(6)).isEqualTo(4);
+        assertThat(INDEX.size(4)).isEqualTo(0);
+        assertThat(actual.cardinality()).isEqualTo(1);
+        assertThat(INDEX.getDictionaryWord(6, actual.nextSetBit(0))).isEqualTo(CANADA);
+        assertThatThrownBy(() -> INDEX.getDictionaryWord(6, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void findEveryWordOfCategory() {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        PatternIndex index = PatternIndex.getInstance(dictionary);
+        List<DictionaryWord> words = dictionary.getDictionaryWords(Level.HARD, "politics");
+
+        // Act
+        PatternIndex categoryIndex = PatternIndex.getInstance(dictionary, Level.HARD, "politics");
+
+        // Assert
+        assertThat(index.alphabet()).isEqualTo(index.alphabet().toUpperCase());
+        for (DictionaryWord dictionaryWord : words) {
+            String pattern = dictionaryWord.word().toUpperCase();
+            assertThat(categoryIndex.find(pattern, "")).containsExactly(dictionaryWord);
+            assertThat(index.count(pattern, "")).isGreaterThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    public void upperCaseLetterByLetter() {
+        // Arrange
+        DictionaryWord strasse = new LevelBasedDictionaryWord("straße", "Street.");
+        DictionaryWord kilim = new LevelBasedDictionaryWord("kilim", "Rug.");
+        Locale locale = Locale.getDefault();
+        PatternIndex index;
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            index = PatternIndex.getInstance(List.of(strasse, kilim));
+        } finally {
+            Locale.setDefault(locale);
+        }
+
+        // Act
+        List<DictionaryWord> actual = index.find("STRA_E", "");
+
+        // Assert
+        assertThat(actual).containsExactly(strasse);
+        assertThat(index.count("_______", "")).isEqualTo(0);
+        assertThat(index.find("K_L_M", "")).containsExactly(kilim);
+        assertThat(index.find("_i_i_", "")).containsExactly(kilim);
+        assertThat(index.getUpperCaseWord(6, 0)).isEqualTo("STRAßE");
+    }
+
+    @Test
+    public void findSupplementaryLetters() {
+        // Arrange
+        String word = Character.toString(0x10437) + Character.toString(0x1042F) + Character.toString(0x10437);
+        DictionaryWord dictionaryWord = new LevelBasedDictionaryWord(word, "");
+        PatternIndex index = PatternIndex.getInstance(List.of(dictionaryWord));
+
+        // Act
+        List<DictionaryWord> actual = index.find("_" + Character.toString(0x1042F) + "_", "");
+
+        // Assert
+        assertThat(actual).containsExactly(dictionaryWord);
+        assertThat(index.size(3)).isEqualTo(1);
+        assertThat(index.find("___", Character.toString(0x10437))).isEmpty();
+        assertThat(index.alphabet()).isEqualTo(Character.toString(0x10407) + Character.toString(0x1040F));
+    }
+}
@@ -0,0 +1,35 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PlayerHistoryTest {
+    @Test
+    public void oldestWordIsForgotten() {
+        // Arrange
+        PlayerHistory playerHistory = PlayerHistory.getInstance(2);
+        DictionaryWord cold = new LevelBasedDictionaryWord("cold", "");
+        DictionaryWord rain = new LevelBasedDictionaryWord("rain", "");
+        DictionaryWord wind = new LevelBasedDictionaryWord("wind", "");
+
+        // Act
+        playerHistory.add(cold);
+        playerHistory.add(rain);
+        playerHistory.add(cold);
+        playerHistory.add(wind);
+
+        // Assert
+        assertThat(playerHistory.contains(cold)).isTrue();
+        assertThat(playerHistory.contains(rain)).isFalse();
+        assertThat(playerHistory.contains(wind)).isTrue();
+        assertThat(playerHistory.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void capacityMustBePositive() {
+        // Act & Assert
+        assertThatThrownBy(() -> PlayerHistory.getInstance(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
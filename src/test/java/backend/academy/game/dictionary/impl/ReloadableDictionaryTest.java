@@ -0,0 +1,106 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReloadableDictionaryTest {
+    private static final String CATEGORY = "weather";
+
+    private static Dictionary dictionary(String word) {
+        return LevelBasedDictionary.getInstance(
+            new Random(0),
+            Map.of(Level.EASY, Map.of(CATEGORY, List.of(new LevelBasedDictionaryWord(word, "Clue."))))
+        );
+    }
+
+    @Test
+    public void reloadSwapsSnapshot() throws IOException {
+        // Arrange
+        AtomicInteger numberOfLoads = new AtomicInteger();
+        List<String> words = List.of("cold", "rain");
+        try (ReloadableDictionary dictionary = ReloadableDictionary.getInstance(
+            () -> dictionary(words.get(numberOfLoads.getAndIncrement()))
+        )) {
+            DictionaryWord drawnBefore = dictionary.getDictionaryWord(Level.EASY, CATEGORY).orElseThrow();
+
+            // Act
+            ReloadableDictionary.Snapshot snapshot = dictionary.reload().join();
+
+            // Assert
+            assertThat(snapshot.version()).isEqualTo(2L);
+            assertThat(dictionary.snapshot()).isSameAs(snapshot);
+            assertThat(drawnBefore.word()).isEqualTo("cold");
+            assertThat(dictionary.getDictionaryWord(Level.EASY, CATEGORY).orElseThrow().word()).isEqualTo("rain");
+            assertThat(dictionary.getDefaultDictionaryWord().word()).isEqualTo("rain");
+        }
+    }
+
+    @Test
+    public void failedReloadKeepsSnapshot() throws IOException {
+        // Arrange
+        AtomicInteger numberOfLoads = new AtomicInteger();
+        try (ReloadableDictionary dictionary = ReloadableDictionary.getInstance(() -> {
+            if (numberOfLoads.getAndIncrement() > 0) {
+                throw new IOException("Broken word list.");
+            }
+            return dictionary("cold");
+        })) {
+            ReloadableDictionary.Snapshot before = dictionary.snapshot();
+
+            // Act & Assert
+            assertThatThrownBy(() -> dictionary.reload().join()).isInstanceOf(CompletionException.class);
+            assertThat(dictionary.snapshot()).isSameAs(before);
+            assertThat(dictionary.getLevels()).isEqualTo(Set.of(Level.EASY));
+        }
+    }
+
+    @Test
+    public void readersSeeWholeSnapshots() throws Exception {
+        // Arrange
+        int numberOfReloads = 100;
+        AtomicInteger numberOfLoads = new AtomicInteger();
+        try (
+            ReloadableDictionary dictionary = ReloadableDictionary.getInstance(
+                () -> dictionary(numberOfLoads.getAndIncrement() % 2 == 0 ? "cold" : "rain")
+            );
+            ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()
+        ) {
+            // Act
+            List<Future<Boolean>> results = IntStream.range(0, 8)
+                .mapToObj(i -> readers.submit(() -> {
+                    boolean isConsistent = true;
+                    for (int j = 0; j < 10_000; j++) {
+                        ReloadableDictionary.Snapshot snapshot = dictionary.snapshot();
+                        String word = snapshot.dictionary().getDefaultDictionaryWord().word();
+                        isConsistent &= word.equals(snapshot.version() % 2 == 1 ? "cold" : "rain");
+                    }
+                    return isConsistent;
+                }))
+                .toList();
+            for (int i = 0; i < numberOfReloads; i++) {
+                dictionary.reload();
+            }
+
+            // Assert
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+            assertThat(dictionary.reload().join().version()).isEqualTo(numberOfReloads + 2L);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ShardedDictionaryTest {
+    @TempDir
+    private Path tempDir;
+
+    private ShardedDictionary write(LevelBasedDictionary levelBasedDictionary) throws IOException {
+        ShardedDictionaryWriter.write(levelBasedDictionary, tempDir);
+        return ShardedDictionary.getInstance(tempDir, new Random(0));
+    }
+
+    @Test
+    public void indexIsReadEagerly() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance();
+
+        // Act
+        ShardedDictionary shardedDictionary = write(levelBasedDictionary);
+
+        // Assert
+        assertThat(shardedDictionary.getLevels()).isEqualTo(levelBasedDictionary.getLevels());
+        for (Level level : levelBasedDictionary.getLevels()) {
+            assertThat(shardedDictionary.getCategoriesByLevel(level))
+                .isEqualTo(levelBasedDictionary.getCategoriesByLevel(level));
+        }
+        assertThat(shardedDictionary.countDictionaryWords(Level.HARD, "politics")).isEqualTo(5);
+        assertThat(shardedDictionary.countDictionaryWords(Level.HARD, "weather")).isEqualTo(0);
+        assertThat(shardedDictionary.getDefaultLevel()).isEqualTo(Level.MEDIUM);
+        assertThat(shardedDictionary.loadedCategories()).isEqualTo(0L);
+    }
+
+    @Test
+    public void categoryIsReadOnFirstDraw() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance();
+        ShardedDictionary shardedDictionary = write(levelBasedDictionary);
+
+        // Act
+        Optional<DictionaryWord> first = shardedDictionary.getDictionaryWord(Level.HARD, "politics");
+        Optional<DictionaryWord> second = shardedDictionary.getDictionaryWord(Level.HARD, "politics");
+
+        // Assert
+        List<DictionaryWord> words = levelBasedDictionary.getDictionaryWords(Level.HARD, "politics");
+        assertThat(first.orElseThrow()).isIn(words);
+        assertThat(second.orElseThrow()).isIn(words);
+        assertThat(shardedDictionary.getDictionaryWords(Level.HARD, "politics")).isEqualTo(words);
+        assertThat(shardedDictionary.loadedCategories()).isEqualTo(1L);
+        assertThat(shardedDictionary.stats().missCount()).isEqualTo(1L);
+        assertThat(shardedDictionary.getDictionaryWord(Level.HARD, "weather")).isEmpty();
+    }
+
+    @Test
+    public void missingShardFailsOnlyItsCategory() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance(
+            new Random(0),
+            Map.of(
+                Level.EASY, Map.of("weather", List.of(new LevelBasedDictionaryWord("cold", "Low temperature."))),
+                Level.HARD, Map.of("politics", List.of(new LevelBasedDictionaryWord("election", "Vote.")))
+            )
+        );
+        ShardedDictionary shardedDictionary = write(levelBasedDictionary);
+
+        // Act
+        Files.delete(tempDir.resolve("shard-000000.tsv"));
+
+        // Assert
+        assertThat(shardedDictionary.getCategoriesByLevel(Level.EASY)).containsExactly("weather");
+        assertThatThrownBy(() -> shardedDictionary.getDictionaryWord(Level.EASY, "weather"))
+            .isInstanceOf(UncheckedIOException.class);
+        assertThat(shardedDictionary.getDictionaryWord(Level.HARD, "politics").orElseThrow().word())
+            .isEqualTo("election");
+    }
+
+    @Test
+    public void lineBreakInCategoryKeepsIndex() throws IOException {
+        // Arrange
+        LevelBasedDictionary levelBasedDictionary = LevelBasedDictionary.getInstance(
+            new Random(0),
+            Map.of(
+                Level.EASY, Map.of("bad\nweather", List.of(new LevelBasedDictionaryWord("cold", "Low temperature."))),
+                Level.HARD, Map.of("politics", List.of(new LevelBasedDictionaryWord("election", "Vote.")))
+            )
+        );
+
+        // Act
+        ShardedDictionary shardedDictionary = write(levelBasedDictionary);
+
+        // Assert
+        assertThat(shardedDictionary.getCategoriesByLevel(Level.EASY)).containsExactly("bad weather");
+        assertThat(shardedDictionary.getDictionaryWord(Level.EASY, "bad weather").orElseThrow().word())
+            .isEqualTo("cold");
+        assertThat(shardedDictionary.getCategoriesByLevel(Level.HARD)).containsExactly("politics");
+    }
+}
@@ -0,0 +1,116 @@
+package backend.academy.game.dictionary.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.random.RandomGenerators;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShuffleBagDictionaryTest {
+    private static final String CATEGORY = "words";
+
+    private static List<DictionaryWord> words(int numberOfWords) {
+        return IntStream.range(0, numberOfWords)
+            .mapToObj(i -> (DictionaryWord) new LevelBasedDictionaryWord(
+                "word" + Character.toString('a' + i / 26) + Character.toString('a' + i % 26), ""
+            ))
+            .toList();
+    }
+
+    private static Dictionary dictionary(List<DictionaryWord> words) {
+        return LevelBasedDictionary.getInstance(new Random(0), Map.of(Level.EASY, Map.of(CATEGORY, words)));
+    }
+
+    @Test
+    public void everyWordOnceARound() {
+        // Arrange
+        List<DictionaryWord> words = words(5);
+        ShuffleBagDictionary dictionary = ShuffleBagDictionary.getInstance(dictionary(words), new Random(0));
+
+        // Act
+        List<DictionaryWord> drawn = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            drawn.add(dictionary.getDictionaryWord(Level.EASY, CATEGORY).orElseThrow());
+        }
+
+        // Assert
+        for (int round = 0; round < 10; round++) {
+            List<DictionaryWord> roundWords = drawn.subList(round * 5, round * 5 + 5);
+            assertThat(new HashSet<>(roundWords)).hasSize(5);
+            if (round > 0) {
+                assertThat(roundWords.getFirst()).isNotEqualTo(drawn.get(round * 5 - 1));
+            }
+        }
+    }
+
+    @Test
+    public void unknownCategory() {
+        // Arrange
+        ShuffleBagDictionary dictionary = ShuffleBagDictionary.getInstance(dictionary(words(5)), new Random(0));
+
+        // Act & Assert
+        assertThat(dictionary.getDictionaryWord(Level.EASY, "unknown")).isEmpty();
+        assertThat(dictionary.getDictionaryWord(Level.HARD, CATEGORY)).isEmpty();
+        assertThat(dictionary.getDefaultDictionaryWord()).isNotNull();
+    }
+
+    @Test
+    public void concurrentDrawsCoverEveryWord() throws Exception {
+        // Arrange
+        int numberOfWords = 100;
+        int numberOfDraws = 1_000;
+        ShuffleBagDictionary dictionary = ShuffleBagDictionary.getInstance(
+            dictionary(words(numberOfWords)), RandomGenerators.seeded(0)
+        );
+        Map<DictionaryWord, AtomicInteger> word2count = new ConcurrentHashMap<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < numberOfDraws; j++) {
+                        DictionaryWord dictionaryWord = dictionary.getDictionaryWord(Level.EASY, CATEGORY)
+                            .orElseThrow();
+                        word2count.computeIfAbsent(dictionaryWord, word -> new AtomicInteger()).incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        // Assert
+        assertThat(word2count).hasSize(numberOfWords);
+        assertThat(word2count.values().stream().mapToInt(AtomicInteger::get).sum()).isEqualTo(8 * numberOfDraws);
+    }
+
+    @Test
+    public void playerHistorySkipsSeenWords() {
+        // Arrange
+        ShuffleBagDictionary dictionary = ShuffleBagDictionary.getInstance(dictionary(words(5)), new Random(0));
+        PlayerHistory playerHistory = PlayerHistory.getInstance(5);
+        Dictionary player = dictionary.forPlayer(playerHistory);
+
+        // Act
+        List<DictionaryWord> drawn = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            drawn.add(player.getDictionaryWord(Level.EASY, CATEGORY).orElseThrow());
+            dictionary.getDictionaryWord(Level.EASY, CATEGORY);
+            dictionary.getDictionaryWord(Level.EASY, CATEGORY);
+        }
+
+        // Assert
+        assertThat(new HashSet<>(drawn)).hasSize(5);
+        assertThat(playerHistory.size()).isEqualTo(5);
+        assertThat(player.getDictionaryWord(Level.EASY, CATEGORY)).isPresent();
+    }
+}
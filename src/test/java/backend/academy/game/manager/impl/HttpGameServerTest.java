@@ -0,0 +1,203 @@
+package backend.academy.game.manager.impl;
+
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.random.RandomGenerators;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpGameServerTest {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static HttpGameServer start(Dictionary dictionary, VirtualThreadSessionManager sessionManager)
+        throws IOException {
+        return HttpGameServer.start(
+            dictionary, sessionManager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+        );
+    }
+
+    private static RequestSpecification given(HttpGameServer server) {
+        return RestAssured.given()
+            .baseUri("http://" + server.getLocalAddress().getHostString())
+            .port(server.getLocalAddress().getPort())
+            .contentType(ContentType.JSON);
+    }
+
+    private static long create(HttpGameServer server, String level, String category) {
+        return given(server)
+            .body(Map.of("level", level, "category", category))
+            .post("/games")
+            .then()
+            .statusCode(201)
+            .extract()
+            .jsonPath()
+            .getLong("id");
+    }
+
+    @Test
+    public void levelsAndCategories() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        try (
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+            HttpGameServer server = start(dictionary, sessionManager)
+        ) {
+            // Act
+            List<String> levels = given(server).get("/levels").then().statusCode(200).extract().jsonPath().getList(".");
+            List<String> categories = given(server).get("/levels/EASY/categories")
+                .then().statusCode(200).extract().jsonPath().getList(".");
+
+            // Assert
+            assertThat(levels).containsExactly("easy", "medium", "hard");
+            assertThat(categories).contains("weather");
+            given(server).get("/levels/unknown/categories").then().statusCode(404);
+        }
+    }
+
+    @Test
+    public void createGuessAndClose() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        try (
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+            HttpGameServer server = start(dictionary, sessionManager)
+        ) {
+            long sessionId = create(server, "easy", "weather");
+
+            // Act
+            Response afterGuess = given(server).body(Map.of("symbol", "biba")).post("/games/" + sessionId + "/guesses");
+            Response current = given(server).get("/games/" + sessionId);
+            Response closed = given(server).delete("/games/" + sessionId);
+
+            // Assert
+            assertThat(afterGuess.statusCode()).isEqualTo(200);
+            assertThat(afterGuess.jsonPath().getLong("id")).isEqualTo(sessionId);
+            assertThat(afterGuess.jsonPath().getBoolean("finished")).isFalse();
+            assertThat(afterGuess.jsonPath().getString("message")).contains("Incorrect input.");
+            assertThat(current.jsonPath().getString("message")).isEqualTo(afterGuess.jsonPath().getString("message"));
+            assertThat(closed.statusCode()).isEqualTo(204);
+            given(server).get("/games/" + sessionId).then().statusCode(404);
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void incorrectRequests() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        try (
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+            HttpGameServer server = start(dictionary, sessionManager)
+        ) {
+            // Act & Assert
+            given(server).body(Map.of("level", "easy", "category", "politics")).post("/games").then().statusCode(404);
+            given(server).body(Map.of("level", "unknown", "category", "weather")).post("/games").then().statusCode(404);
+            given(server).body(Map.of("level", "easy")).post("/games").then().statusCode(400);
+            given(server).body("{").post("/games").then().statusCode(400);
+            given(server).body(Map.of("symbol", "a")).post("/games/1/guesses").then().statusCode(404);
+            long sessionId = create(server, "easy", "weather");
+            given(server).body("{\"symbols\": [null]}").post("/games/" + sessionId + "/guesses").then().statusCode(400);
+            given(server).body("{}").post("/games/" + sessionId + "/guesses").then().statusCode(400);
+            given(server).delete("/games/" + sessionId).then().statusCode(204);
+            given(server).body(Map.of("symbol", "a")).post("/games/game/guesses").then().statusCode(404);
+            given(server).get("/games").then().statusCode(405);
+            given(server).delete("/games/1").then().statusCode(404);
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void failureGivesServerError() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+        sessionManager.close();
+        try (HttpGameServer server = start(dictionary, sessionManager)) {
+            // Act & Assert
+            given(server).body(Map.of("level", "easy", "category", "weather")).post("/games").then().statusCode(500);
+            given(server).get("/levels").then().statusCode(200);
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void idleGamesExpire() throws Exception {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        try (
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+            HttpGameServer server = HttpGameServer.start(
+                dictionary,
+                sessionManager,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                Duration.ofMillis(50),
+                Duration.ofMillis(50)
+            )
+        ) {
+            long sessionId = create(server, "easy", "weather");
+
+            // Act
+            while (sessionManager.size() > 0) {
+                Thread.sleep(10);
+            }
+
+            // Assert
+            given(server).get("/games/" + sessionId).then().statusCode(404);
+        }
+    }
+
+    @Test
+    @Timeout(value = 1, unit = TimeUnit.MINUTES)
+    public void playManyGamesConcurrently() throws Exception {
+        // Arrange
+        int numberOfGames = 1_000;
+        Dictionary dictionary = LevelBasedDictionary.getInstance(RandomGenerators.threadLocal());
+        List<String> symbols = ALPHABET.chars().mapToObj(Character::toString).toList();
+        try (
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(dictionary);
+            HttpGameServer server = start(dictionary, sessionManager)
+        ) {
+            // Act
+            List<Future<Boolean>> results;
+            try (ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+                results = IntStream.range(0, numberOfGames)
+                    .mapToObj(i -> players.submit(() -> {
+                        long sessionId = create(server, "easy", "weather");
+                        boolean isFinished = given(server)
+                            .body(Map.of("symbols", symbols))
+                            .post("/games/" + sessionId + "/guesses")
+                            .then()
+                            .statusCode(200)
+                            .extract()
+                            .jsonPath()
+                            .getBoolean("finished");
+                        given(server).delete("/games/" + sessionId).then().statusCode(204);
+                        return isFinished;
+                    }))
+                    .toList();
+            }
+
+            // Assert
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package backend.academy.game.manager.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.metrics.GameMetricsSnapshot;
+import backend.academy.game.metrics.impl.LongAdderGameMetrics;
+import backend.academy.game.random.RandomGenerators;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.impl.GuessJournal;
+import backend.academy.game.session.impl.SessionStateCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VirtualThreadSessionManagerTest {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void createWithUnknownCategory() {
+        // Arrange
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance()
+        )) {
+            // Act
+            OptionalLong sessionId = sessionManager.create(Level.EASY, "politics");
+
+            // Assert
+            assertThat(sessionId.isPresent()).isFalse();
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void createAndGetState() {
+        // Arrange
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance()
+        )) {
+            // Act
+            long sessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+            Optional<SessionState> sessionState = sessionManager.getState(sessionId);
+
+            // Assert
+            assertThat(sessionState.orElseThrow().isFinished()).isFalse();
+            assertThat(sessionState.orElseThrow().message()).startsWith("Maximum attempts: 6.");
+        }
+    }
+
+    @Test
+    public void guessUpdatesState() {
+        // Arrange
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance()
+        )) {
+            long sessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+
+            // Act
+            SessionState afterGuess = sessionManager.guess(sessionId, "biba").orElseThrow();
+            SessionState current = sessionManager.getState(sessionId).orElseThrow();
+
+            // Assert
+            assertThat(afterGuess.message()).contains("Incorrect input.");
+            assertThat(current).isEqualTo(afterGuess);
+        }
+    }
+
+    @Test
+    public void guessBurstFinishesGame() {
+        // Arrange
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance()
+        )) {
+            long sessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+            List<String> symbols = ALPHABET.chars().mapToObj(Character::toString).toList();
+
+            // Act
+            SessionState sessionState = sessionManager.guess(sessionId, symbols).orElseThrow();
+
+            // Assert
+            assertThat(sessionState.isFinished()).isTrue();
+            assertThat(sessionManager.getState(sessionId).orElseThrow()).isEqualTo(sessionState);
+        }
+    }
+
+    @Test
+    public void gamesReportToMetrics() {
+        // Arrange
+        LongAdderGameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance(),
+            SessionStateCache.disabled(),
+            gameMetrics
+        )) {
+            long sessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+
+            // Act
+            sessionManager.guess(sessionId, ALPHABET.chars().mapToObj(Character::toString).toList());
+            GameMetricsSnapshot snapshot = gameMetrics.snapshot();
+
+            // Assert
+            assertThat(snapshot.sessionsCreated()).isEqualTo(1L);
+            assertThat(snapshot.sessionsFinished()).isEqualTo(1L);
+            assertThat(snapshot.dictionaryWordLatency().count()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    public void closedSessionIsForgotten() {
+        // Arrange
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance()
+        )) {
+            long sessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+
+            // Act
+            boolean isClosed = sessionManager.close(sessionId);
+            boolean isClosedTwice = sessionManager.close(sessionId);
+
+            // Assert
+            assertThat(isClosed).isTrue();
+            assertThat(isClosedTwice).isFalse();
+            assertThat(sessionManager.guess(sessionId, "a")).isEmpty();
+            assertThat(sessionManager.getState(sessionId)).isEmpty();
+        }
+    }
+
+    @Test
+    public void rejectedGameIsForgotten() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        try (GuessJournal journal = GuessJournal.open(tempDir, dictionary)) {
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+                dictionary, SessionStateCache.disabled(), journal
+            );
+            sessionManager.close();
+
+            // Act & Assert
+            assertThatThrownBy(() -> sessionManager.create(Level.EASY, "weather"))
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+        try (
+            GuessJournal journal = GuessJournal.open(tempDir, dictionary);
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+                dictionary, SessionStateCache.disabled(), journal
+            )
+        ) {
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void closeIdleGames() {
+        // Arrange
+        try (VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+            LevelBasedDictionary.getInstance()
+        )) {
+            long finishedSessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+            sessionManager.guess(finishedSessionId, ALPHABET.chars().mapToObj(Character::toString).toList());
+            long inFlightSessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+            sessionManager.guess(inFlightSessionId, "a");
+
+            // Act
+            int numberOfFinishedClosed = sessionManager.closeIdle(Duration.ofHours(1), Duration.ZERO);
+            int numberOfIdleClosed = sessionManager.closeIdle(Duration.ZERO, Duration.ZERO);
+
+            // Assert
+            assertThat(numberOfFinishedClosed).isEqualTo(1);
+            assertThat(numberOfIdleClosed).isEqualTo(1);
+            assertThat(sessionManager.getState(finishedSessionId)).isEmpty();
+            assertThat(sessionManager.getState(inFlightSessionId)).isEmpty();
+            assertThat(sessionManager.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void playManyGamesConcurrently() throws Exception {
+        // Arrange
+        int numberOfGames = 10_000;
+        try (
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+                LevelBasedDictionary.getInstance(RandomGenerators.threadLocal())
+            );
+            ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()
+        ) {
+            // Act
+            List<Future<SessionState>> results = IntStream.range(0, numberOfGames)
+                .mapToObj(i -> players.submit(() -> play(sessionManager)))
+                .toList();
+
+            // Assert
+            for (Future<SessionState> result : results) {
+                assertThat(result.get().isFinished()).isTrue();
+            }
+            assertThat(sessionManager.size()).isEqualTo(numberOfGames);
+        }
+    }
+
+    @Test
+    public void restartWithJournal() throws IOException {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        long inFlightSessionId;
+        long closedSessionId;
+        try (
+            GuessJournal journal = GuessJournal.open(tempDir, dictionary);
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+                dictionary, SessionStateCache.disabled(), journal
+            )
+        ) {
+            inFlightSessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+            sessionManager.guess(inFlightSessionId, "z");
+            closedSessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+            sessionManager.close(closedSessionId);
+        }
+
+        // Act
+        try (
+            GuessJournal journal = GuessJournal.open(tempDir, dictionary);
+            VirtualThreadSessionManager sessionManager = VirtualThreadSessionManager.getInstance(
+                dictionary, SessionStateCache.disabled(), journal
+            )
+        ) {
+            Optional<SessionState> inFlightState = sessionManager.getState(inFlightSessionId);
+            long newSessionId = sessionManager.create(Level.EASY, "weather").orElseThrow();
+
+            // Assert
+            assertThat(sessionManager.size()).isEqualTo(2);
+            assertThat(inFlightState.orElseThrow().message()).contains("Number of used attempts: 1.");
+            assertThat(sessionManager.getState(closedSessionId)).isEmpty();
+            assertThat(newSessionId).isGreaterThan(closedSessionId);
+            assertThat(sessionManager.guess(inFlightSessionId, "y").orElseThrow().message())
+                .contains("Number of used attempts: 2.");
+        }
+    }
+
+    private static SessionState play(VirtualThreadSessionManager sessionManager) {
+        long sessionId = sessionManager.create(Level.HARD, "politics").orElseThrow();
+        SessionState sessionState = sessionManager.getState(sessionId).orElseThrow();
+        for (int i = 0; i < ALPHABET.length() && !sessionState.isFinished(); i++) {
+            sessionState = sessionManager.guess(sessionId, String.valueOf(ALPHABET.charAt(i))).orElseThrow();
+        }
+        return sessionState;
+    }
+}
@@ -0,0 +1,61 @@
+package backend.academy.game.metrics.impl;
+
+import backend.academy.game.metrics.HistogramSnapshot;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+    @Test
+    public void emptySnapshot() {
+        // Arrange
+        LatencyHistogram histogram = LatencyHistogram.getInstance();
+
+        // Act
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertThat(snapshot.count()).isEqualTo(0L);
+        assertThat(snapshot.quantileNanos(0.99)).isEqualTo(0L);
+        assertThat(snapshot.meanNanos()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void quantilesAreBucketBounds() {
+        // Arrange
+        LatencyHistogram histogram = LatencyHistogram.getInstance();
+        IntStream.range(0, 98).forEach(i -> histogram.record(100));
+        histogram.record(1_000);
+        histogram.record(5_000_000_000L);
+
+        // Act
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertThat(snapshot.count()).isEqualTo(100L);
+        assertThat(snapshot.quantileNanos(0.5)).isEqualTo(128L);
+        assertThat(snapshot.quantileNanos(0.99)).isEqualTo(1_024L);
+        assertThat(snapshot.quantileNanos(1.0)).isEqualTo(snapshot.upperBounds()[snapshot.upperBounds().length - 1]);
+        assertThat(snapshot.sumNanos()).isEqualTo(98 * 100L + 1_000L + 5_000_000_000L);
+    }
+
+    @Test
+    public void recordFromManyThreads() {
+        // Arrange
+        LatencyHistogram histogram = LatencyHistogram.getInstance();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            IntStream.range(0, 4).forEach(i -> executor.execute(() -> {
+                for (int j = 0; j < 100_000; j++) {
+                    histogram.record(j);
+                }
+            }));
+        }
+
+        // Assert
+        assertThat(histogram.snapshot().count()).isEqualTo(400_000L);
+    }
+}
@@ -0,0 +1,118 @@
+package backend.academy.game.metrics.impl;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.metrics.GameMetrics;
+import backend.academy.game.metrics.GameMetricsSnapshot;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.UpdateInfo;
+import backend.academy.game.session.impl.SimpleWordSession;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MeteredSessionTest {
+    private static Session session(String word, GameMetrics gameMetrics) {
+        return MeteredSession.getInstance(
+            SimpleWordSession.getInstance(new LevelBasedDictionaryWord(word, "")),
+            gameMetrics
+        );
+    }
+
+    @Test
+    public void guessesAreCountedByOutcome() {
+        // Arrange
+        GameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        Session session = session("word", gameMetrics);
+
+        // Act
+        List.of("w", "w", "x", "x", "biba", "o").forEach(session::updateState);
+        GameMetricsSnapshot snapshot = gameMetrics.snapshot();
+
+        // Assert
+        assertThat(snapshot.sessionsCreated()).isEqualTo(1L);
+        assertThat(snapshot.sessionsFinished()).isEqualTo(0L);
+        assertThat(snapshot.guesses(UpdateInfo.GUESSED)).isEqualTo(2L);
+        assertThat(snapshot.guesses(UpdateInfo.ALREADY_GUESSED)).isEqualTo(1L);
+        assertThat(snapshot.guesses(UpdateInfo.NOT_GUESSED)).isEqualTo(1L);
+        assertThat(snapshot.guesses(UpdateInfo.ALREADY_NOT_GUESSED)).isEqualTo(1L);
+        assertThat(snapshot.guesses(UpdateInfo.INCORRECT_INPUT)).isEqualTo(1L);
+        assertThat(snapshot.updateStateLatency().count()).isEqualTo(6L);
+    }
+
+    @Test
+    public void victoriesAndDefeatsAreCountedOnce() {
+        // Arrange
+        GameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        Session won = session("word", gameMetrics);
+        Session lost = session("word", gameMetrics);
+
+        // Act
+        won.updateStates(List.of("w", "o", "r", "d"));
+        won.updateState("a");
+        lost.updateStates(List.of("a", "b", "c", "e", "f", "g", "h"));
+        GameMetricsSnapshot snapshot = gameMetrics.snapshot();
+
+        // Assert
+        assertThat(snapshot.sessionsCreated()).isEqualTo(2L);
+        assertThat(snapshot.sessionsFinished()).isEqualTo(2L);
+        assertThat(snapshot.victories()).isEqualTo(1L);
+        assertThat(snapshot.defeats()).isEqualTo(1L);
+        assertThat(snapshot.guesses(UpdateInfo.NOT_GUESSED)).isEqualTo(6L);
+    }
+
+    @Test
+    public void outcomesGoOnlyToTheirUpdate() {
+        // Arrange
+        GameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        Session session = session("word", gameMetrics);
+        List<UpdateInfo> outcomes = new ArrayList<>();
+
+        // Act
+        session.updateStates(List.of("w", "x"), outcomes::add);
+        session.updateState("o");
+        session.updateStates(List.of("r"));
+
+        // Assert
+        assertThat(outcomes).containsExactly(UpdateInfo.GUESSED, UpdateInfo.NOT_GUESSED);
+        assertThat(gameMetrics.snapshot().guesses(UpdateInfo.GUESSED)).isEqualTo(3L);
+        assertThat(session.pattern()).isEqualTo("WOR_");
+    }
+
+    @Test
+    public void failedUpdateKeepsNoOutcomes() {
+        // Arrange
+        GameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        Session session = session("word", gameMetrics);
+        List<UpdateInfo> outcomes = new ArrayList<>();
+
+        // Act
+        assertThatThrownBy(() -> session.updateStates(List.of("w"), updateInfo -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        session.updateStates(List.of("o", "r"));
+        session.updateStates(List.of("d"), outcomes::add);
+
+        // Assert
+        assertThat(outcomes).containsExactly(UpdateInfo.GUESSED);
+        assertThat(gameMetrics.snapshot().sessionsFinished()).isEqualTo(1L);
+        assertThat(gameMetrics.snapshot().victories()).isEqualTo(1L);
+    }
+
+    @Test
+    public void dictionaryDrawsAreTimed() {
+        // Arrange
+        GameMetrics gameMetrics = LongAdderGameMetrics.getInstance();
+        MeteredDictionary dictionary = MeteredDictionary.getInstance(LevelBasedDictionary.getInstance(), gameMetrics);
+
+        // Act
+        dictionary.getDictionaryWord(Level.EASY, "weather");
+        dictionary.getDictionaryWord(Level.EASY, "politics");
+
+        // Assert
+        assertThat(gameMetrics.snapshot().dictionaryWordLatency().count()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,60 @@
+package backend.academy.game.random;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RandomGeneratorsTest {
+    private static final long SEED = 42;
+    private static final int BOUND = 1_000_000;
+    private static final int SIZE = 100;
+
+    @Test
+    public void seededIsReproducible() {
+        // Arrange
+        RandomGenerator first = RandomGenerators.seeded(SEED);
+        RandomGenerator second = RandomGenerators.seeded(SEED);
+
+        // Act
+        int[] firstSequence = IntStream.range(0, SIZE).map(i -> first.nextInt(BOUND)).toArray();
+        int[] secondSequence = IntStream.range(0, SIZE).map(i -> second.nextInt(BOUND)).toArray();
+
+        // Assert
+        assertThat(firstSequence).isEqualTo(secondSequence);
+    }
+
+    @Test
+    public void threadLocalGivesEveryThreadItsOwnSequence() throws ExecutionException, InterruptedException {
+        // Arrange
+        RandomGenerator randomGenerator = RandomGenerators.seeded(SEED);
+
+        // Act
+        int[] firstSequence;
+        int[] secondSequence;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            firstSequence = IntStream.range(0, SIZE).map(i -> randomGenerator.nextInt(BOUND)).toArray();
+            secondSequence = executor.submit(
+                () -> IntStream.range(0, SIZE).map(i -> randomGenerator.nextInt(BOUND)).toArray()
+            ).get();
+        }
+
+        // Assert
+        assertThat(firstSequence).isNotEqualTo(secondSequence);
+    }
+
+    @Test
+    public void nextIntStaysInBounds() {
+        // Arrange
+        RandomGenerator randomGenerator = RandomGenerators.threadLocal();
+
+        // Act
+        int[] sequence = IntStream.range(0, SIZE).map(i -> randomGenerator.nextInt(BOUND)).toArray();
+
+        // Assert
+        assertThat(IntStream.of(sequence).allMatch(value -> value >= 0 && value < BOUND)).isTrue();
+    }
+}
@@ -0,0 +1,55 @@
+package backend.academy.game.session;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AlphabetTest {
+    @Test
+    public void latinAlphabet() {
+        // Act
+        Alphabet alphabet = Alphabet.of("WORD");
+
+        // Assert
+        assertThat(alphabet.size()).isEqualTo(26);
+        assertThat(alphabet.indexOf('A')).isEqualTo(0);
+        assertThat(alphabet.indexOf('Z')).isEqualTo(25);
+        assertThat(alphabet.letterAt(3)).isEqualTo((int) 'D');
+        assertThat(alphabet.indexOf('a')).isNegative();
+        assertThat(alphabet.indexOf('Я')).isNegative();
+        assertThat(Alphabet.of("CAT")).isSameAs(alphabet);
+    }
+
+    @Test
+    public void cyrillicAlphabet() {
+        // Act
+        Alphabet alphabet = Alphabet.of("ЁЛКА");
+
+        // Assert
+        assertThat(alphabet.indexOf('Ё')).isLessThan(alphabet.indexOf('А'));
+        assertThat(alphabet.letterAt(alphabet.indexOf('Я'))).isEqualTo((int) 'Я');
+        assertThat(alphabet.indexOf('я')).isNegative();
+        assertThat(alphabet.indexOf('W')).isNegative();
+    }
+
+    @Test
+    public void phraseOfTwoAlphabets() {
+        // Act
+        Alphabet alphabet = Alphabet.of("HELLO, МИР!");
+
+        // Assert
+        assertThat(alphabet.indexOf('Z')).isLessThan(alphabet.indexOf('Ж'));
+        assertThat(alphabet.indexOf(',')).isNegative();
+        assertThat(alphabet.indexOf(' ')).isNegative();
+    }
+
+    @Test
+    public void supplementaryAlphabet() {
+        // Act
+        Alphabet alphabet = Alphabet.of(Character.toString(0x1040F));
+
+        // Assert
+        assertThat(alphabet.size()).isEqualTo(40);
+        assertThat(alphabet.letterAt(alphabet.indexOf(0x10410))).isEqualTo(0x10410);
+        assertThat(alphabet.indexOf(0x10437)).isNegative();
+    }
+}
@@ -0,0 +1,74 @@
+package backend.academy.game.session;
+
+import backend.academy.game.Level;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NormalizedWordTest {
+    @Test
+    public void normalize() {
+        // Arrange
+        DictionaryWord dictionaryWord = new LevelBasedDictionaryWord("Canada", "Maple leaf.");
+
+        // Act
+        DictionaryWord normalizedWord = NormalizedWord.normalize(dictionaryWord);
+
+        // Assert
+        assertThat(normalizedWord).isInstanceOf(NormalizedWord.class);
+        NormalizedWord actual = (NormalizedWord) normalizedWord;
+        assertThat(actual.word()).isEqualTo("Canada");
+        assertThat(actual.clue()).isEqualTo("Maple leaf.");
+        assertThat(actual.upperCaseWord()).isEqualTo("CANADA");
+        assertThat(actual.length()).isEqualTo(6);
+        assertThat(actual.letters()).isEqualTo("ACDN");
+        assertThat(NormalizedWord.normalize(actual)).isSameAs(actual);
+        assertThat(actual).isEqualTo(NormalizedWord.normalize(new LevelBasedDictionaryWord("Canada", "Maple leaf.")));
+    }
+
+    @Test
+    public void equalsDictionaryWordOfSameWordAndClue() {
+        // Arrange
+        DictionaryWord dictionaryWord = new LevelBasedDictionaryWord("Canada", "Maple leaf.");
+
+        // Act
+        DictionaryWord normalizedWord = NormalizedWord.normalize(dictionaryWord);
+
+        // Assert
+        assertThat(normalizedWord).isEqualTo(dictionaryWord);
+        assertThat(dictionaryWord).isEqualTo(normalizedWord);
+        assertThat(normalizedWord.hashCode()).isEqualTo(dictionaryWord.hashCode());
+        assertThat(normalizedWord).isNotEqualTo(new LevelBasedDictionaryWord("Canada", "Flag."));
+    }
+
+    @Test
+    public void normalizeIncorrectWord() {
+        // Arrange
+        List<DictionaryWord> incorrectWords = List.of(
+            new LevelBasedDictionaryWord(null, ""),
+            new LevelBasedDictionaryWord("word", null),
+            new LevelBasedDictionaryWord("", ""),
+            new LevelBasedDictionaryWord("t-34", "")
+        );
+
+        // Act & Assert
+        incorrectWords.forEach(word -> assertThat(NormalizedWord.normalize(word)).isSameAs(word));
+    }
+
+    @Test
+    public void dictionaryHandsOutNormalizedWords() {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+
+        // Act
+        List<DictionaryWord> words = dictionary.getDictionaryWords(Level.HARD, "politics");
+
+        // Assert
+        assertThat(words).hasSize(5);
+        words.forEach(word -> assertThat(word).isInstanceOf(NormalizedWord.class));
+        assertThat(dictionary.getDictionaryWord(Level.HARD, "politics").orElseThrow()).isIn(words);
+    }
+}
@@ -0,0 +1,156 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.session.Session;
+import backend.academy.game.session.SessionState;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GuessJournalTest {
+    private static final List<DictionaryWord> WORDS = List.of(
+        new LevelBasedDictionaryWord("cold", "Low temperature."),
+        new LevelBasedDictionaryWord("election", "Vote.")
+    );
+    private static final int RECORDS_PER_SEGMENT = 4;
+    private static final Duration FORCE_INTERVAL = Duration.ofMillis(1);
+
+    @TempDir
+    private Path tempDir;
+
+    private static GuessJournal open(Path directory) throws IOException {
+        return GuessJournal.open(directory, WORDS, RECORDS_PER_SEGMENT, FORCE_INTERVAL);
+    }
+
+    private static Session attach(GuessJournal journal, long sessionId, DictionaryWord dictionaryWord) {
+        return journal.attach(sessionId, dictionaryWord, SimpleWordSession.getInstance(dictionaryWord));
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.sorted().toList();
+        }
+    }
+
+    @Test
+    public void recoverGamesInFlight() throws IOException {
+        // Arrange
+        SessionState expected;
+        try (GuessJournal journal = open(tempDir)) {
+            Session inFlight = attach(journal, 1, WORDS.get(1));
+            inFlight.updateState("e");
+            inFlight.updateState("z");
+            inFlight.updateState("biba");
+            expected = inFlight.getSessionState();
+
+            attach(journal, 2, WORDS.get(0)).updateState("c");
+            journal.recordClosed(2);
+            attach(journal, 3, WORDS.get(0)).updateStates(List.of("c", "o", "l", "d"));
+        }
+
+        // Act
+        try (GuessJournal journal = open(tempDir)) {
+            Map<Long, GuessJournal.RecoveredSession> recovered = journal.recover(SessionStateCache.disabled());
+
+            // Assert
+            assertThat(recovered.keySet()).isEqualTo(Set.of(1L));
+            assertThat(recovered.get(1L).dictionaryWord()).isEqualTo(WORDS.get(1));
+            assertThat(recovered.get(1L).session().getSessionState()).isEqualTo(expected);
+            assertThat(journal.lastSessionId()).isEqualTo(3L);
+            assertThat(journal.recover(SessionStateCache.disabled())).isEmpty();
+        }
+    }
+
+    @Test
+    public void recoveredGamesAreRecorded() throws IOException {
+        // Arrange
+        try (GuessJournal journal = open(tempDir)) {
+            attach(journal, 1, WORDS.get(1)).updateState("e");
+        }
+        try (GuessJournal journal = open(tempDir)) {
+            journal.recover(SessionStateCache.disabled()).get(1L).session().updateState("l");
+        }
+
+        // Act
+        SessionState actual;
+        try (GuessJournal journal = open(tempDir)) {
+            actual = journal.recover(SessionStateCache.disabled()).get(1L).session().getSessionState();
+        }
+
+        // Assert
+        SimpleWordSession expected = SimpleWordSession.getInstance(WORDS.get(1));
+        expected.updateStates(List.of("e", "l"));
+        assertThat(actual).isEqualTo(expected.getSessionState());
+        assertThat(segments(tempDir)).hasSize(1);
+    }
+
+    @Test
+    public void tornRecordIsSkipped() throws IOException {
+        // Arrange
+        try (GuessJournal journal = open(tempDir)) {
+            Session session = attach(journal, 1, WORDS.get(1));
+            session.updateState("e");
+            session.updateState("z");
+        }
+        Path segment = segments(tempDir).getFirst();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[(int) (2 * GuessJournal.RECORD_SIZE)]++;
+        Files.write(segment, bytes);
+
+        // Act
+        SessionState actual;
+        try (GuessJournal journal = open(tempDir)) {
+            actual = journal.recover(SessionStateCache.disabled()).get(1L).session().getSessionState();
+        }
+
+        // Assert
+        SimpleWordSession expected = SimpleWordSession.getInstance(WORDS.get(1));
+        expected.updateState("e");
+        assertThat(actual).isEqualTo(expected.getSessionState());
+    }
+
+    @Test
+    public void crashDuringRewriteKeepsGuesses() throws IOException {
+        // Arrange
+        try (GuessJournal journal = open(tempDir)) {
+            attach(journal, 1, WORDS.get(1)).updateStates(List.of("e", "z", "l"));
+        }
+        Path oldSegment = segments(tempDir).getFirst();
+        byte[] oldBytes = Files.readAllBytes(oldSegment);
+        try (GuessJournal journal = open(tempDir)) {
+            journal.recover(SessionStateCache.disabled());
+        }
+        // The crash happens after the rewrite restated the creation and the first guess only.
+        List<Path> rewrittenSegments = segments(tempDir);
+        Files.write(oldSegment, oldBytes);
+        byte[] rewrittenBytes = Files.readAllBytes(rewrittenSegments.getFirst());
+        Files.write(
+            rewrittenSegments.getFirst(),
+            Arrays.copyOf(rewrittenBytes, (int) (3 * GuessJournal.RECORD_SIZE))
+        );
+        for (Path rewrittenSegment : rewrittenSegments.subList(1, rewrittenSegments.size())) {
+            Files.delete(rewrittenSegment);
+        }
+
+        // Act
+        SessionState actual;
+        try (GuessJournal journal = open(tempDir)) {
+            actual = journal.recover(SessionStateCache.disabled()).get(1L).session().getSessionState();
+        }
+
+        // Assert
+        SimpleWordSession expected = SimpleWordSession.getInstance(WORDS.get(1));
+        expected.updateStates(List.of("e", "z", "l"));
+        assertThat(actual).isEqualTo(expected.getSessionState());
+    }
+}
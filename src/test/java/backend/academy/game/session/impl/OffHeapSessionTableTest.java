@@ -0,0 +1,111 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.OptionalInt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OffHeapSessionTableTest {
+    private static final List<DictionaryWord> WORDS = List.of(
+        new LevelBasedDictionaryWord("word", "World but short."),
+        new LevelBasedDictionaryWord("cocoa", "Hot drink."),
+        new LevelBasedDictionaryWord("", ""),
+        new LevelBasedDictionaryWord("Ёлки-палки!", "Восклицание.")
+    );
+
+    private static void assertSameAsSimpleWordSession(int wordId, List<String> symbols) {
+        SimpleWordSession session = SimpleWordSession.getInstance(WORDS.get(wordId));
+        try (OffHeapSessionTable table = OffHeapSessionTable.getInstance(WORDS, 1)) {
+            int slot = table.create(wordId).orElseThrow();
+            assertThat(table.getSessionState(slot)).isEqualTo(session.getSessionState());
+
+            for (String symbol : symbols) {
+                SessionState expected = session.updateState(symbol);
+                SessionState actual = table.updateState(slot, symbol);
+                assertThat(actual).isEqualTo(expected);
+                assertThat(table.isFinished(slot)).isEqualTo(expected.isFinished());
+            }
+        }
+    }
+
+    @Test
+    public void updateStateVictory() {
+        assertSameAsSimpleWordSession(0, List.of("w", "O", "P", "biba", "a", "p", "r", "o", "T", "D", "x"));
+    }
+
+    @Test
+    public void updateStateDefeat() {
+        assertSameAsSimpleWordSession(1, List.of("c", "b", "d", "e", "C", "f", "g", "h", "i", "a"));
+    }
+
+    @Test
+    public void updateStateCyrillicPhrase() {
+        assertSameAsSimpleWordSession(3, List.of("л", "z", "я", "Я", "ё", "-", "к", "и", "п", "а"));
+    }
+
+    @Test
+    public void guessReportsOutcomes() {
+        // Arrange
+        try (OffHeapSessionTable table = OffHeapSessionTable.getInstance(WORDS, 1)) {
+            int slot = table.create(1).orElseThrow();
+
+            // Act
+            List<UpdateInfo> actual = List.of("o", "o", "x", "X", "!", "c", "a", "b").stream()
+                .map(symbol -> table.guess(slot, symbol))
+                .toList();
+
+            // Assert
+            assertThat(actual).isEqualTo(List.of(
+                UpdateInfo.GUESSED,
+                UpdateInfo.ALREADY_GUESSED,
+                UpdateInfo.NOT_GUESSED,
+                UpdateInfo.ALREADY_NOT_GUESSED,
+                UpdateInfo.INCORRECT_INPUT,
+                UpdateInfo.GUESSED,
+                UpdateInfo.GUESSED,
+                UpdateInfo.NO_UPDATE
+            ));
+            assertThat(table.isFinished(slot)).isTrue();
+        }
+    }
+
+    @Test
+    public void createWhenFullAndAfterRelease() {
+        // Arrange
+        try (OffHeapSessionTable table = OffHeapSessionTable.getInstance(WORDS, 2)) {
+            int first = table.create(0).orElseThrow();
+            int second = table.create(1).orElseThrow();
+            table.guess(first, "w");
+
+            // Act
+            OptionalInt full = table.create(0);
+            table.release(first);
+            int reused = table.create(1).orElseThrow();
+
+            // Assert
+            assertThat(full.isPresent()).isFalse();
+            assertThat(reused).isEqualTo(first);
+            assertThat(second).isNotEqualTo(first);
+            assertThat(table.size()).isEqualTo(2);
+            assertThat(table.getSessionState(reused))
+                .isEqualTo(SimpleWordSession.getInstance(WORDS.get(1)).getSessionState());
+        }
+    }
+
+    @Test
+    public void unknownWordAndSlot() {
+        // Arrange
+        try (OffHeapSessionTable table = OffHeapSessionTable.getInstance(WORDS, 2)) {
+            // Act & Assert
+            assertThatThrownBy(() -> table.create(2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> table.create(WORDS.size())).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> table.guess(0, "a")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> table.guess(5, "a")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
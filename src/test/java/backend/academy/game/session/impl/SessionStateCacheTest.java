@@ -0,0 +1,79 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.session.SessionState;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionStateCacheTest {
+    private static final DictionaryWord DICTIONARY_WORD = new LevelBasedDictionaryWord("word", "World but short.");
+    private static final List<String> SYMBOLS = List.of("w", "O", "P", "biba", "a", "r", "T", "D");
+
+    private static List<SessionState> play(SimpleWordSession session) {
+        return SYMBOLS.stream()
+            .map(session::updateState)
+            .toList();
+    }
+
+    @Test
+    public void cachedStatesAreTheSame() {
+        // Arrange
+        SessionStateCache sessionStateCache = SessionStateCache.getInstance(1_000);
+
+        // Act
+        List<SessionState> actual = play(SimpleWordSession.getInstance(DICTIONARY_WORD, sessionStateCache));
+
+        // Assert
+        assertThat(actual).isEqualTo(play(SimpleWordSession.getInstance(DICTIONARY_WORD)));
+    }
+
+    @Test
+    public void gamesOfTheSameWordHitTheCache() {
+        // Arrange
+        SessionStateCache sessionStateCache = SessionStateCache.getInstance(1_000);
+        play(SimpleWordSession.getInstance(DICTIONARY_WORD, sessionStateCache));
+
+        // Act
+        play(SimpleWordSession.getInstance(DICTIONARY_WORD, sessionStateCache));
+        CacheStats stats = sessionStateCache.stats();
+
+        // Assert
+        assertThat(stats.missCount()).isEqualTo(SYMBOLS.size());
+        assertThat(stats.hitCount()).isEqualTo(SYMBOLS.size());
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void cacheIsShared() {
+        // Arrange
+        SessionStateCache sessionStateCache = SessionStateCache.getInstance(1_000);
+        play(SimpleWordSession.getInstance(DICTIONARY_WORD, sessionStateCache));
+
+        // Act
+        try (OffHeapSessionTable table = OffHeapSessionTable.getInstance(
+            List.of(DICTIONARY_WORD), 1, sessionStateCache
+        )) {
+            int slot = table.create(0).orElseThrow();
+            SYMBOLS.forEach(symbol -> table.updateState(slot, symbol));
+        }
+
+        // Assert
+        assertThat(sessionStateCache.stats().hitCount()).isEqualTo(SYMBOLS.size());
+    }
+
+    @Test
+    public void disabledCacheKeepsNothing() {
+        // Arrange
+        SessionStateCache sessionStateCache = SessionStateCache.disabled();
+
+        // Act
+        play(SimpleWordSession.getInstance(DICTIONARY_WORD, sessionStateCache));
+
+        // Assert
+        assertThat(sessionStateCache.estimatedSize()).isEqualTo(0L);
+        assertThat(sessionStateCache.stats().requestCount()).isEqualTo(0L);
+    }
+}
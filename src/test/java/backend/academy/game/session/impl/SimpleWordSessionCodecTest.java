@@ -0,0 +1,161 @@
+package backend.academy.game.session.impl;
+
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SimpleWordSessionCodecTest {
+    private static final DictionaryWord DICTIONARY_WORD = new LevelBasedDictionaryWord("cocoa", "Hot drink.");
+
+    private static SimpleWordSession playedSession() {
+        SimpleWordSession session = SimpleWordSession.getInstance(DICTIONARY_WORD);
+        session.updateStates(List.of("o", "x", "C", "z", "e", "k"));
+        return session;
+    }
+
+    private static ByteBuffer encode(SimpleWordSessionCodec codec, SimpleWordSession session) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.encode(session, buffer);
+        return buffer.flip();
+    }
+
+    @Test
+    public void encodeAndDecodeInlineWord() {
+        // Arrange
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance();
+        SimpleWordSession session = playedSession();
+
+        // Act
+        SimpleWordSession actual = codec.decode(encode(codec, session));
+
+        // Assert
+        assertThat(actual.getSessionState()).isEqualTo(session.getSessionState());
+        assertThat(actual.updateState("a")).isEqualTo(session.updateState("a"));
+    }
+
+    @Test
+    public void encodeAndDecodeWordReference() {
+        // Arrange
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance(List.of(
+            new LevelBasedDictionaryWord("tea", "Drink."),
+            DICTIONARY_WORD
+        ));
+        SimpleWordSession session = playedSession();
+
+        // Act
+        ByteBuffer buffer = encode(codec, session);
+        int size = buffer.remaining();
+        SimpleWordSession actual = codec.decode(buffer);
+
+        // Assert
+        assertThat(size).isEqualTo(17);
+        assertThat(actual.getSessionState()).isEqualTo(session.getSessionState());
+    }
+
+    @Test
+    public void encodeAndDecodeEveryWordOfDictionary() {
+        // Arrange
+        LevelBasedDictionary dictionary = LevelBasedDictionary.getInstance();
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance(dictionary);
+        SimpleWordSession session = SimpleWordSession.getInstance(dictionary.getDefaultDictionaryWord());
+        session.updateStates(List.of("a", "e", "q"));
+
+        // Act
+        SimpleWordSession actual = codec.decode(encode(codec, session));
+
+        // Assert
+        assertThat(actual.getSessionState()).isEqualTo(session.getSessionState());
+    }
+
+    @Test
+    public void encodeAndDecodeIncorrectSession() {
+        // Arrange
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance();
+        SimpleWordSession session = SimpleWordSession.getInstance(new LevelBasedDictionaryWord("", ""));
+
+        // Act
+        SimpleWordSession actual = codec.decode(encode(codec, session));
+
+        // Assert
+        assertThat(actual.getSessionState()).isEqualTo(session.getSessionState());
+    }
+
+    @Test
+    public void decodeUnknownVersion() {
+        // Arrange
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance();
+        ByteBuffer buffer = encode(codec, playedSession());
+        buffer.put(0, (byte) 42);
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(buffer)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void decodeMissedLetterOfWord() {
+        // Arrange
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance(List.of(DICTIONARY_WORD));
+        ByteBuffer buffer = encode(codec, playedSession());
+        buffer.putChar(buffer.limit() - Character.BYTES, 'A');
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(buffer)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void encodeAndDecodeCyrillicPhrase() {
+        // Arrange
+        DictionaryWord dictionaryWord = new LevelBasedDictionaryWord("Ёлки-палки!", "Восклицание.");
+        SimpleWordSessionCodec codec = SimpleWordSessionCodec.getInstance(List.of(dictionaryWord));
+        SimpleWordSession session = SimpleWordSession.getInstance(dictionaryWord);
+        session.updateStates(List.of("л", "я", "ё", "ю"));
+
+        // Act
+        SimpleWordSession actual = codec.decode(encode(codec, session));
+
+        // Assert
+        assertThat(actual.getSessionState()).isEqualTo(session.getSessionState());
+        assertThat(actual.updateState("к")).isEqualTo(session.updateState("к"));
+    }
+
+    @Test
+    public void decodeFirstVersion() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.put((byte) 1).put((byte) 2);
+        buffer.putShort((short) 5).put("cocoa".getBytes(StandardCharsets.UTF_8));
+        buffer.putShort((short) 10).put("Hot drink.".getBytes(StandardCharsets.UTF_8));
+        buffer.put((byte) 1).put((byte) 0b0100);
+        buffer.put((byte) 2).putChar('X').putChar('Z');
+        SimpleWordSession expected = SimpleWordSession.getInstance(DICTIONARY_WORD);
+        expected.updateStates(List.of("o", "x", "z"));
+
+        // Act
+        SimpleWordSession actual = SimpleWordSessionCodec.getInstance().decode(buffer.flip());
+
+        // Assert
+        assertThat(actual.getSessionState()).isEqualTo(expected.getSessionState());
+    }
+
+    @Test
+    public void decodeFirstVersionWithForeignMiss() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.put((byte) 1).put((byte) 2);
+        buffer.putShort((short) 5).put("cocoa".getBytes(StandardCharsets.UTF_8));
+        buffer.putShort((short) 10).put("Hot drink.".getBytes(StandardCharsets.UTF_8));
+        buffer.put((byte) 0);
+        buffer.put((byte) 2).putChar('X').putChar('Я');
+
+        // Act & Assert
+        assertThatThrownBy(() -> SimpleWordSessionCodec.getInstance().decode(buffer.flip()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'Я'");
+    }
+}
@@ -1,8 +1,12 @@
 package backend.academy.game.session.impl;
 
+import backend.academy.game.dictionary.DictionaryWord;
 import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.session.NormalizedWord;
 import backend.academy.game.session.SessionState;
+import backend.academy.game.session.UpdateInfo;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
 import java.util.List;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -478,4 +482,207 @@ Victory!"""
         );
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    public void updateStateGuessedWithRepeatedLetters() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(new LevelBasedDictionaryWord("cocoa", ""));
+
+        // Act
+        simpleWordSession.updateState("c");
+        simpleWordSession.updateState("z");
+        simpleWordSession.updateState("o");
+        simpleWordSession.updateState("b");
+        SessionState actual = simpleWordSession.updateState("a");
+
+        // Assert
+        SessionState expected = new SimpleWordSessionState(
+            true,
+            """
+Maximum attempts: 6.
+Number of used attempts: 2.
+  -----
+  |   |
+  |   0
+  |   |
+  |   |
+  |
+  |
+  |
+ ---
+You guess the letter.
+COCOA
+BZ
+Victory!"""
+        );
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void updateStatesEqualsLastUpdateState() {
+        // Arrange
+        List<String> symbols = List.of("w", "O", "P", "biba", "a", "r", "o");
+        LevelBasedDictionaryWord dictionaryWord = new LevelBasedDictionaryWord("word", "Clue.");
+        SimpleWordSession expectedSession = SimpleWordSession.getInstance(dictionaryWord);
+        SimpleWordSession actualSession = SimpleWordSession.getInstance(dictionaryWord);
+        SessionState expected = null;
+        for (String symbol : symbols) {
+            expected = expectedSession.updateState(symbol);
+        }
+
+        // Act
+        SessionState actual = actualSession.updateStates(symbols);
+
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actualSession.getSessionState()).isEqualTo(expectedSession.getSessionState());
+    }
+
+    @Test
+    public void updateStatesStopsWhenFinished() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(new LevelBasedDictionaryWord("word", ""));
+        List<UpdateInfo> outcomes = new ArrayList<>();
+
+        // Act
+        SessionState actual = simpleWordSession.updateStates(
+            List.of("w", "w", "x", "o", "r", "d", "a", "b"),
+            outcomes::add
+        );
+
+        // Assert
+        assertThat(actual.isFinished()).isTrue();
+        assertThat(actual.message()).endsWith("WORD\nX\nVictory!");
+        assertThat(outcomes).isEqualTo(List.of(
+            UpdateInfo.GUESSED,
+            UpdateInfo.ALREADY_GUESSED,
+            UpdateInfo.NOT_GUESSED,
+            UpdateInfo.GUESSED,
+            UpdateInfo.GUESSED,
+            UpdateInfo.GUESSED
+        ));
+    }
+
+    @Test
+    public void updateStatesWithoutSymbols() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(new LevelBasedDictionaryWord("word", ""));
+        List<UpdateInfo> outcomes = new ArrayList<>();
+
+        // Act
+        SessionState actual = simpleWordSession.updateStates(List.of(), outcomes::add);
+
+        // Assert
+        assertThat(actual).isEqualTo(simpleWordSession.getSessionState());
+        assertThat(outcomes.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void updateStatesCyrillicWord() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(
+            new LevelBasedDictionaryWord("ёлка", "")
+        );
+        List<UpdateInfo> outcomes = new ArrayList<>();
+
+        // Act
+        simpleWordSession.updateStates(List.of("Ё", "я", "z", "Я", "л"), outcomes::add);
+
+        // Assert
+        assertThat(outcomes).isEqualTo(List.of(
+            UpdateInfo.GUESSED,
+            UpdateInfo.NOT_GUESSED,
+            UpdateInfo.INCORRECT_INPUT,
+            UpdateInfo.ALREADY_NOT_GUESSED,
+            UpdateInfo.GUESSED
+        ));
+        assertThat(simpleWordSession.getSessionState().message()).endsWith("ЁЛ__\nЯ");
+    }
+
+    @Test
+    public void updateStatesSupplementaryLetters() {
+        // Arrange
+        String word = Character.toString(0x10437) + Character.toString(0x1042F) + Character.toString(0x10437);
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(new LevelBasedDictionaryWord(word, ""));
+        List<UpdateInfo> outcomes = new ArrayList<>();
+
+        // Act
+        SessionState actual = simpleWordSession.updateStates(
+            List.of(Character.toString(0x10437), Character.toString(0x10410), "\uD801", Character.toString(0x10407)),
+            outcomes::add
+        );
+
+        // Assert
+        assertThat(outcomes).isEqualTo(List.of(
+            UpdateInfo.GUESSED,
+            UpdateInfo.NOT_GUESSED,
+            UpdateInfo.INCORRECT_INPUT,
+            UpdateInfo.GUESSED
+        ));
+        assertThat(actual.isFinished()).isTrue();
+        String upperCaseWord = Character.toString(0x1040F) + Character.toString(0x10407) + Character.toString(0x1040F);
+        assertThat(actual.message()).contains(upperCaseWord + "\n" + Character.toString(0x10410));
+    }
+
+    @Test
+    public void patternAndMissedSymbols() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(
+            new LevelBasedDictionaryWord("Don't panic!", "")
+        );
+
+        // Act
+        simpleWordSession.updateStates(List.of("n", "z", "a", "b"));
+
+        // Assert
+        assertThat(simpleWordSession.pattern()).isEqualTo("__N'_ _AN__!");
+        assertThat(simpleWordSession.missedSymbols()).isEqualTo("BZ");
+    }
+
+    @Test
+    public void missedSymbolsInOrderOfCodePoints() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(new LevelBasedDictionaryWord("水", ""));
+
+        // Act
+        SessionState actual = simpleWordSession.updateStates(List.of("龍", "一", "火", "一", "山", "木", "人"));
+
+        // Assert
+        assertThat(simpleWordSession.missedSymbols()).isEqualTo("一人山木火龍");
+        assertThat(actual.isFinished()).isTrue();
+    }
+
+    @Test
+    public void updateStatesPhrase() {
+        // Arrange
+        SimpleWordSession simpleWordSession = SimpleWordSession.getInstance(
+            new LevelBasedDictionaryWord("Don't panic!", "")
+        );
+        String initial = simpleWordSession.getSessionState().message();
+
+        // Act
+        SessionState actual = simpleWordSession.updateStates(List.of("d", "o", "n", "t", "'", " ", "p", "a", "i", "c"));
+
+        // Assert
+        assertThat(initial).endsWith("___'_ _____!\n");
+        assertThat(actual.isFinished()).isTrue();
+        assertThat(actual.message()).endsWith("DON'T PANIC!\n\nVictory!");
+    }
+
+    @Test
+    public void sessionOfNormalizedWord() {
+        // Arrange
+        DictionaryWord dictionaryWord = new LevelBasedDictionaryWord("word", "Clue.");
+        SimpleWordSession session = SimpleWordSession.getInstance(dictionaryWord);
+        SimpleWordSession normalizedSession = SimpleWordSession.getInstance(NormalizedWord.normalize(dictionaryWord));
+
+        // Act
+        List<String> symbols = List.of("w", "z", "o", "o");
+        SessionState expected = session.updateStates(symbols);
+        SessionState actual = normalizedSession.updateStates(symbols);
+
+        // Assert
+        assertThat(actual).isEqualTo(expected);
+        assertThat(normalizedSession.targetWord()).isEqualTo(session.targetWord());
+    }
 }
@@ -0,0 +1,168 @@
+package backend.academy.game.user.impl;
+
+import backend.academy.game.Hangman;
+import backend.academy.game.Level;
+import backend.academy.game.bot.GuessStrategy;
+import backend.academy.game.dictionary.Dictionary;
+import backend.academy.game.dictionary.DictionaryWord;
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.dictionary.impl.LevelBasedDictionaryWord;
+import backend.academy.game.dictionary.impl.ShuffleBagDictionary;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchUserInteractionTest {
+    private static Dictionary dictionary() {
+        Map<Level, Map<String, List<DictionaryWord>>> level2category2words = Map.of(
+            Level.EASY, Map.of("weather", List.of(new LevelBasedDictionaryWord("cold", "Low temperature."))),
+            Level.HARD, Map.of("politics", List.of(new LevelBasedDictionaryWord("election", "Vote.")))
+        );
+        return LevelBasedDictionary.getInstance(new Random(0), level2category2words);
+    }
+
+    /**
+     * Collects written bytes and counts writes.
+     */
+    private static final class CountingChannel implements WritableByteChannel {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int numberOfWrites;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int length = src.remaining();
+            bytes.write(src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.limit());
+            numberOfWrites++;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    public void playScriptedGames() throws IOException {
+        // Arrange
+        String script = """
+            # won, unfinished and lost
+            easy weather c o l d
+
+            hard politics e z
+            hard politics a b f g h k
+            """;
+        Dictionary dictionary = dictionary();
+        CountingChannel channel = new CountingChannel();
+        BatchUserInteraction batchUserInteraction = BatchUserInteraction.getInstance(
+            new BufferedReader(new StringReader(script)), channel
+        );
+
+        // Act
+        while (batchUserInteraction.nextGame()) {
+            Hangman.create(batchUserInteraction, dictionary);
+        }
+
+        // Assert
+        String output = channel.bytes.toString(StandardCharsets.UTF_8);
+        assertThat(batchUserInteraction.numberOfGames()).isEqualTo(3);
+        assertThat(channel.numberOfWrites).isEqualTo(3);
+        assertThat(output).contains("You choose easy level.", "Victory!", "No guesses left", "Defeat!");
+        assertThat(output.indexOf("Victory!")).isLessThan(output.indexOf("No guesses left"));
+        assertThat(output.indexOf("No guesses left")).isLessThan(output.indexOf("Defeat!"));
+    }
+
+    @Test
+    public void playGameWithoutCategory() throws IOException {
+        // Arrange
+        CountingChannel channel = new CountingChannel();
+        BatchUserInteraction batchUserInteraction = BatchUserInteraction.getInstance(
+            new BufferedReader(new StringReader("easy\n")), channel
+        );
+
+        // Act
+        boolean hasGame = batchUserInteraction.nextGame();
+        Hangman.create(batchUserInteraction, dictionary());
+        boolean hasNextGame = batchUserInteraction.nextGame();
+
+        // Assert
+        assertThat(hasGame).isTrue();
+        assertThat(hasNextGame).isFalse();
+        assertThat(channel.bytes.toString(StandardCharsets.UTF_8))
+            .contains("Incorrect input.", "We choose category for you: weather.", "No guesses left");
+    }
+
+    @Test
+    public void hintGivesLetterOfWord() throws IOException {
+        // Arrange
+        CountingChannel channel = new CountingChannel();
+        BatchUserInteraction batchUserInteraction = BatchUserInteraction.getInstance(
+            new BufferedReader(new StringReader("easy weather ? z ? c o l d\n")), channel
+        );
+
+        // Act
+        batchUserInteraction.nextGame();
+        Hangman.create(batchUserInteraction, dictionary());
+
+        // Assert
+        String output = channel.bytes.toString(StandardCharsets.UTF_8);
+        assertThat(output).containsPattern("Hint: try [CDLO]\\.(?s).*Hint: try [CDLO]\\.").contains("Victory!");
+        assertThat(output).doesNotContain("Incorrect input.");
+    }
+
+    @Test
+    public void hintIsRankedOnPlayedCategory() throws IOException {
+        // Arrange
+        Dictionary dictionary = LevelBasedDictionary.getInstance(new Random(0), Map.of(
+            Level.EASY, Map.of(
+                "weather", List.of(new LevelBasedDictionaryWord("cold", "Low temperature.")),
+                "music", List.of(
+                    new LevelBasedDictionaryWord("jazz", ""),
+                    new LevelBasedDictionaryWord("fizz", ""),
+                    new LevelBasedDictionaryWord("buzz", "")
+                )
+            )
+        ));
+        CountingChannel channel = new CountingChannel();
+        BatchUserInteraction batchUserInteraction = BatchUserInteraction.getInstance(
+            new BufferedReader(new StringReader("easy weather ?\n")), channel
+        );
+
+        // Act
+        batchUserInteraction.nextGame();
+        Hangman.create(batchUserInteraction, dictionary);
+
+        // Assert
+        assertThat(channel.bytes.toString(StandardCharsets.UTF_8)).containsPattern("Hint: try [CDLO]\\.");
+    }
+
+    @Test
+    public void viewsOfDictionaryShareHintStrategy() {
+        // Arrange
+        Dictionary dictionary = dictionary();
+
+        // Act
+        GuessStrategy strategy = HintStrategies.of(dictionary, Level.EASY, "weather");
+        GuessStrategy viewStrategy = HintStrategies.of(
+            ShuffleBagDictionary.getInstance(dictionary), Level.EASY, "weather"
+        );
+
+        // Assert
+        assertThat(viewStrategy).isSameAs(strategy);
+        assertThat(HintStrategies.of(dictionary, Level.HARD, "politics")).isNotSameAs(strategy);
+    }
+}
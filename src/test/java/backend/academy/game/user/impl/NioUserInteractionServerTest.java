@@ -0,0 +1,160 @@
+package backend.academy.game.user.impl;
+
+import backend.academy.game.dictionary.impl.LevelBasedDictionary;
+import backend.academy.game.random.RandomGenerators;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NioUserInteractionServerTest {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static NioUserInteractionServer startServer() throws IOException {
+        return NioUserInteractionServer.start(
+            LevelBasedDictionary.getInstance(RandomGenerators.seeded(42)),
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+        );
+    }
+
+    private static String play(InetSocketAddress address, String input) throws IOException {
+        try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(input.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            socket.shutdownOutput();
+
+            InputStream in = socket.getInputStream();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String allLetters() {
+        StringBuilder input = new StringBuilder();
+        for (char letter : ALPHABET.toCharArray()) {
+            input.append(letter).append("\r\n");
+        }
+        return input.toString();
+    }
+
+    @Test
+    public void playWholeGame() throws IOException {
+        // Arrange
+        try (NioUserInteractionServer server = startServer()) {
+            // Act
+            String output = play(server.getLocalAddress(), "easy\nweather\n" + allLetters());
+
+            // Assert
+            assertThat(output).startsWith("Choose level of game:\n");
+            assertThat(output).contains("You choose easy level.");
+            assertThat(output).contains("You choose category: weather.");
+            assertThat(output).contains("Input symbol: ");
+            assertThat(output).containsAnyOf("Victory!", "Defeat!");
+        }
+    }
+
+    @Test
+    public void incorrectChoicesFallBackToDefaults() throws IOException {
+        // Arrange
+        try (NioUserInteractionServer server = startServer()) {
+            // Act
+            String output = play(server.getLocalAddress(), "biba\nboba\n" + allLetters());
+
+            // Assert
+            assertThat(output).contains("The default game level is used: medium.");
+            assertThat(output).contains("We choose category for you: ");
+        }
+    }
+
+    @Test
+    public void overlongLineIsDiscarded() throws IOException {
+        // Arrange
+        try (NioUserInteractionServer server = startServer()) {
+            String overlongLine = "ж".repeat(SocketUserInteraction.MAX_LINE_LENGTH) + "\n";
+
+            // Act
+            String output = play(server.getLocalAddress(), "easy\n" + overlongLine + "weather\n" + allLetters());
+
+            // Assert
+            assertThat(output).contains("You choose category: weather.");
+            assertThat(output).doesNotContain("We choose category for you: ");
+        }
+    }
+
+    @Test
+    public void floodOfLinesIsPlayedInOrder() throws IOException {
+        // Arrange
+        try (NioUserInteractionServer server = startServer()) {
+            String flood = "1\n".repeat(100 * SocketUserInteraction.MAX_QUEUED_LINES);
+
+            // Act
+            String output = play(server.getLocalAddress(), "easy\nweather\n" + flood + allLetters());
+
+            // Assert
+            assertThat(output).contains("You choose category: weather.");
+            assertThat(output).containsAnyOf("Victory!", "Defeat!");
+        }
+    }
+
+    @Test
+    public void leavingPlayerIsDisconnected() throws IOException {
+        // Arrange
+        try (NioUserInteractionServer server = startServer()) {
+            // Act
+            String output = play(server.getLocalAddress(), "easy\n");
+
+            // Assert
+            assertThat(output).contains("You choose easy level.");
+            assertThat(output).endsWith("Choose category of words:\n1. appearance\n2. weather\n");
+        }
+    }
+
+    @Test
+    public void closeDropsWaitingPlayers() throws IOException {
+        // Arrange
+        NioUserInteractionServer server = startServer();
+        try (Socket socket = new Socket(server.getLocalAddress().getAddress(), server.getLocalAddress().getPort())) {
+            InputStream in = socket.getInputStream();
+            assertThat(in.read()).isNotEqualTo(-1);
+
+            // Act
+            server.close();
+
+            // Assert
+            in.readAllBytes();
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void playManyGamesConcurrently() throws Exception {
+        // Arrange
+        int players = 1_000;
+        String input = "easy\nweather\n" + allLetters();
+
+        try (NioUserInteractionServer server = startServer();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            InetSocketAddress address = server.getLocalAddress();
+
+            // Act
+            List<Future<String>> outputs = IntStream.range(0, players)
+                .mapToObj(i -> clients.submit(() -> play(address, input)))
+                .toList();
+
+            // Assert
+            for (Future<String> output : outputs) {
+                assertThat(output.get()).containsAnyOf("Victory!", "Defeat!");
+            }
+        }
+    }
+}